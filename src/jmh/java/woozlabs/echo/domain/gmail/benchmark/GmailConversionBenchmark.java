@@ -0,0 +1,75 @@
+package woozlabs.echo.domain.gmail.benchmark;
+
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Thread;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import woozlabs.echo.domain.gmail.dto.message.GmailMessageGetResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetMessagesResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetPayload;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadListThreads;
+import woozlabs.echo.domain.gmail.service.MultiThreadGmailService;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gmail API 응답을 Echo DTO 로 변환하는 비용을 fixture 별로 측정한다.
+ * 처리량과 함께 gc profiler(build.gradle 의 jmh 설정)로 operation 당 할당량(gc.alloc.rate.norm)을 확인한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GmailConversionBenchmark {
+
+    @Param({"small-text", "newsletter", "thread-100", "attachments"})
+    public String fixture;
+
+    private final MultiThreadGmailService multiThreadGmailService = new MultiThreadGmailService();
+    private Thread thread;
+    private Thread listedThread;
+    private Gmail gmail;
+    private GmailUtility gmailUtility;
+
+    @Setup
+    public void setUp() throws IOException {
+        String json = GmailFixtures.readJson(fixture);
+        thread = GmailFixtures.parseThread(json);
+        listedThread = new Thread().setId(thread.getId()).setHistoryId(thread.getHistoryId());
+        gmail = GmailFixtures.gmailReturning(json);
+        gmailUtility = GmailFixtures.gmailUtility();
+    }
+
+    @Benchmark
+    public void threadGetMessages(Blackhole blackhole) {
+        for (Message message : thread.getMessages()) {
+            blackhole.consume(GmailThreadGetMessagesResponse.toGmailThreadGetMessages(message));
+        }
+    }
+
+    @Benchmark
+    public void threadGetPayload(Blackhole blackhole) {
+        for (Message message : thread.getMessages()) {
+            blackhole.consume(new GmailThreadGetPayload(message.getPayload()));
+        }
+    }
+
+    @Benchmark
+    public void messageGet(Blackhole blackhole) {
+        for (Message message : thread.getMessages()) {
+            blackhole.consume(GmailMessageGetResponse.toGmailMessageGet(message, gmailUtility));
+        }
+    }
+
+    // 스레드 목록의 한 항목: threads.get 응답 파싱 + 변환
+    @Benchmark
+    public GmailThreadListThreads threadListItem() {
+        return multiThreadGmailService.multiThreadRequestGmailThreadGetForList(listedThread, gmail);
+    }
+}
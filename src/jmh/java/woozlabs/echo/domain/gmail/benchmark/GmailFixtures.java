@@ -0,0 +1,64 @@
+package woozlabs.echo.domain.gmail.benchmark;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.Json;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.Thread;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * src/jmh/resources/gmail 의 Gmail API threads.get(format=full) 응답 fixture 를 읽는다.
+ * small-text, newsletter(큰 html + inline image), thread-100(100개 message), attachments(첨부 12개씩) 로 구성된다.
+ */
+final class GmailFixtures {
+
+    private GmailFixtures() {
+    }
+
+    static String readJson(String name) throws IOException {
+        try (InputStream in = GmailFixtures.class.getResourceAsStream("/gmail/" + name + ".json")) {
+            if (in == null) throw new IOException("Fixture not found: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static Thread parseThread(String json) throws IOException {
+        return GsonFactory.getDefaultInstance().fromString(json, Thread.class);
+    }
+
+    // 네트워크 없이 모든 요청에 fixture 를 응답하는 Gmail client (응답 JSON 파싱 비용은 포함)
+    static Gmail gmailReturning(String json) {
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() {
+                        return new MockLowLevelHttpResponse()
+                                .setContentType(Json.MEDIA_TYPE)
+                                .setContent(json);
+                    }
+                };
+            }
+        };
+        return new Gmail.Builder(transport, GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("echo-jmh")
+                .build();
+    }
+
+    // toGmailMessageGet 은 verification 추출(keywords)만 사용하므로 나머지 의존성은 비워둠
+    static GmailUtility gmailUtility() {
+        GmailUtility gmailUtility = new GmailUtility(null, null, null, null, null);
+        gmailUtility.initKeywords();
+        return gmailUtility;
+    }
+}
@@ -18,9 +18,12 @@ import woozlabs.echo.domain.member.entity.Watch;
 import woozlabs.echo.domain.member.repository.AccountRepository;
 import woozlabs.echo.domain.member.repository.MemberAccountRepository;
 import woozlabs.echo.domain.member.repository.MemberRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
+import woozlabs.echo.domain.member.service.AccountExistenceCache;
 import woozlabs.echo.global.constant.GlobalConstant;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.scheduler.AccessTokenRefresher;
 import woozlabs.echo.global.utils.FirebaseTokenVerifier;
 import woozlabs.echo.global.utils.GoogleOAuthUtils;
 
@@ -42,6 +45,9 @@ public class AuthService {
     private final FirebaseTokenVerifier firebaseTokenVerifier;
     private final FirebaseUtils firebaseUtils;
     private final GoogleOAuthUtils googleOAuthUtils;
+    private final AccessTokenRefresher accessTokenRefresher;
+    private final AccountContextCache accountContextCache;
+    private final AccountExistenceCache accountExistenceCache;
 
     private static final String GOOGLE_PROVIDER = "google";
 
@@ -123,12 +129,16 @@ public class AuthService {
             uuid = existingAccount.getUid();
             updateAccountInfo(existingAccount, userInfo);
             accountRepository.save(existingAccount);
+            accessTokenRefresher.schedule(existingAccount.getId(), existingAccount.getAccessTokenFetchedAt());
+            accountContextCache.evictAccount(existingAccount.getId());
             log.info("Updated existing account with UID: {}", uuid);
             return existingAccount;
         } else {
             uuid = UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8)).toString();
             Account newAccount = createNewAccount(providerId, displayName, email, profileImageUrl, accessToken, refreshToken, uuid, GOOGLE_PROVIDER);
             accountRepository.save(newAccount);
+            accessTokenRefresher.schedule(newAccount.getId(), newAccount.getAccessTokenFetchedAt());
+            accountExistenceCache.evict(newAccount.getEmail());
             log.info("Created new account with UID: {}", newAccount.getUid());
             return newAccount;
         }
@@ -137,6 +147,8 @@ public class AuthService {
     @Transactional
     public void handleExistingAccount(Account existingAccount, Map<String, Object> userInfo, HttpServletRequest request, HttpServletResponse response) throws FirebaseAuthException {
         updateAccountInfo(existingAccount, userInfo);
+        accessTokenRefresher.schedule(existingAccount.getId(), existingAccount.getAccessTokenFetchedAt());
+        accountContextCache.evictAccount(existingAccount.getId());
 
         Optional<String> cookieTokenOpt = AuthCookieUtils.getCookieValue(request);
 
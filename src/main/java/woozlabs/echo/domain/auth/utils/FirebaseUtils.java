@@ -1,15 +1,27 @@
 package woozlabs.echo.domain.auth.utils;
 
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.DeleteUsersResult;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.UserRecord;
+import com.google.firebase.auth.internal.ErrorInfo;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
 @Component
 public class FirebaseUtils {
 
+    private static final int MAX_DELETE_USERS = 1000;
+    private static final long DELETE_USERS_INTERVAL_MS = 1000; // deleteUsers 는 서버에서 1 QPS 로 제한
+
+    private long lastDeleteUsersAt;
+
     public String createCustomToken(String uid) throws FirebaseAuthException {
         try {
             return FirebaseAuth.getInstance().createCustomToken(uid);
@@ -26,4 +38,31 @@ public class FirebaseUtils {
             return false;
         }
     }
+
+    // 실패한 uid 목록을 반환, 없는 user 는 삭제된 것으로 처리됨
+    public synchronized List<String> deleteUsers(List<String> uids) throws FirebaseAuthException {
+        List<String> failedUids = new ArrayList<>();
+        for (int from = 0; from < uids.size(); from += MAX_DELETE_USERS) {
+            List<String> chunk = uids.subList(from, Math.min(from + MAX_DELETE_USERS, uids.size()));
+            waitForDeleteUsersInterval();
+            DeleteUsersResult result = FirebaseAuth.getInstance().deleteUsers(chunk);
+            lastDeleteUsersAt = System.currentTimeMillis();
+            for (ErrorInfo error : result.getErrors()) {
+                log.error("Failed to delete Firebase account: {}, reason: {}", chunk.get(error.getIndex()), error.getReason());
+                failedUids.add(chunk.get(error.getIndex()));
+            }
+        }
+        return failedUids;
+    }
+
+    private void waitForDeleteUsersInterval() {
+        long waitMs = lastDeleteUsersAt + DELETE_USERS_INTERVAL_MS - System.currentTimeMillis();
+        if (waitMs <= 0) return;
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to delete Firebase accounts", e);
+        }
+    }
 }
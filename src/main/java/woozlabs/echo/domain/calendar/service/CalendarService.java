@@ -9,8 +9,7 @@ import com.google.api.services.calendar.model.CalendarListEntry;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.Events;
 import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.AccessToken;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.OAuth2Credentials;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import woozlabs.echo.domain.calendar.dto.CalendarListData;
@@ -20,6 +19,7 @@ import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.domain.member.repository.AccountRepository;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
@@ -34,6 +34,7 @@ public class CalendarService {
     private final String PRIMARY_CALENDAR_ID = "primary";
     private final String DATES_CONNECTION_CHAR = " ~ ";
     private final AccountRepository accountRepository;
+    private final GoogleAccessTokenProvider googleAccessTokenProvider;
 
     public CalendarListResponse getCalendars(String uid){
         try{
@@ -80,8 +81,7 @@ public class CalendarService {
         Account account = accountRepository.findByUid(uid)
                 .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE));
         String accessToken = account.getAccessToken();
-        GoogleCredentials credentials = GoogleCredentials.create(new AccessToken(accessToken, null))
-                .createScoped(Collections.singleton(CALENDAR_SCOPE));
+        OAuth2Credentials credentials = googleAccessTokenProvider.createCredentials(accessToken, Collections.singletonList(CALENDAR_SCOPE));
         return new Calendar.Builder(
                 GoogleNetHttpTransport.newTrustedTransport(),
                 GsonFactory.getDefaultInstance(),
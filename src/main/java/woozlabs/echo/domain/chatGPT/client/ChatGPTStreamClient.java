@@ -0,0 +1,64 @@
+package woozlabs.echo.domain.chatGPT.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import woozlabs.echo.domain.chatGPT.dto.ChatGPTRequest;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * chat/completions stream=true 호출. choices[0].delta.content 를 순서대로 넘겨준다.
+ */
+@Slf4j
+@Component
+public class ChatGPTStreamClient {
+
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
+    private final RestClient chatGPTRestClient;
+    private final ObjectMapper objectMapper;
+
+    public ChatGPTStreamClient(@Qualifier("chatGPTRestClient") RestClient chatGPTRestClient, ObjectMapper objectMapper) {
+        this.chatGPTRestClient = chatGPTRestClient;
+        this.objectMapper = objectMapper;
+    }
+
+    public void streamChatCompletion(ChatGPTRequest request, Consumer<String> onToken) {
+        chatGPTRestClient.post()
+                .uri("/v1/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(request)
+                .exchange((clientRequest, clientResponse) -> {
+                    if (clientResponse.getStatusCode().isError()) {
+                        throw new CustomErrorException(ErrorCode.FAILED_TO_CHATGPT_COMPLETION,
+                                "ChatGPT stream responded with " + clientResponse.getStatusCode());
+                    }
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(clientResponse.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.startsWith(SSE_DATA_PREFIX)) continue;
+                            String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+                            if (data.isEmpty()) continue;
+                            if (SSE_DONE.equals(data)) break;
+                            String content = objectMapper.readTree(data)
+                                    .path("choices").path(0).path("delta").path("content").asText(null);
+                            if (content != null && !content.isEmpty()) {
+                                onToken.accept(content);
+                            }
+                        }
+                    }
+                    return null;
+                });
+    }
+}
@@ -1,12 +1,16 @@
 package woozlabs.echo.domain.chatGPT.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import woozlabs.echo.domain.chatGPT.service.ChatGptService;
+import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.llm.SseStreamRelay;
 
 @RestController
 @RequiredArgsConstructor
@@ -14,6 +18,7 @@ import woozlabs.echo.domain.chatGPT.service.ChatGptService;
 public class ChatGptController {
 
     private final ChatGptService chatGptService;
+    private final SseStreamRelay sseStreamRelay;
 
     @PostMapping("/completion")
     public ResponseEntity<String> getCompletion(@RequestBody String text) {
@@ -21,6 +26,12 @@ public class ChatGptController {
         return ResponseEntity.ok(completion);
     }
 
+    @PostMapping(value = "/completion/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCompletion(@RequestBody String text) {
+        return sseStreamRelay.relay(ErrorCode.FAILED_TO_CHATGPT_COMPLETION,
+                onToken -> chatGptService.streamCompletion(text, onToken));
+    }
+
     @PostMapping("/gmail/verification")
     public ResponseEntity<String> analyzeEmail(@RequestBody String emailContent) {
         String result = chatGptService.analyzeVerificationEmail(emailContent);
@@ -1,5 +1,6 @@
 package woozlabs.echo.domain.chatGPT.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -10,12 +11,19 @@ import java.util.List;
 public class ChatGPTRequest {
     private String model;
     private List<Message> messages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
 
     public ChatGPTRequest(String model, String content) {
         this.model = model;
         this.messages = List.of(new Message("user", content));
     }
 
+    public ChatGPTRequest(String model, String content, boolean stream) {
+        this(model, content);
+        this.stream = stream;
+    }
+
     @Getter
     public static class Message {
         private String role;
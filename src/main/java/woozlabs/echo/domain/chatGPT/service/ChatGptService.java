@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import woozlabs.echo.domain.chatGPT.ChatGPTInterface;
+import woozlabs.echo.domain.chatGPT.client.ChatGPTStreamClient;
 import woozlabs.echo.domain.chatGPT.dto.ChatGPTRequest;
 import woozlabs.echo.domain.chatGPT.dto.ChatGPTResponse;
 import woozlabs.echo.domain.chatGPT.prompt.EmailTemplateSuggestionPrompt;
@@ -12,9 +13,14 @@ import woozlabs.echo.domain.chatGPT.prompt.EmailTemplatePrompt;
 import woozlabs.echo.domain.gemini.prompt.VerificationMailPrompt;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.llm.LlmGateway;
+import woozlabs.echo.global.llm.LlmProvider;
 
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,14 +31,24 @@ public class ChatGptService {
     private static final String GPT_3_P_5 = "gpt-3.5-turbo";
 
     private final ChatGPTInterface chatGPTInterface;
+    private final ChatGPTStreamClient chatGPTStreamClient;
+    private final LlmGateway llmGateway;
 
     private ChatGPTResponse getChatCompletion(ChatGPTRequest request) {
-        try {
-            return chatGPTInterface.getChatCompletion(request);
-        } catch (Exception e) {
-            log.error("Error while getting completion from ChatGPT", e);
-            throw new CustomErrorException(ErrorCode.FAILED_TO_CHATGPT_COMPLETION, e.getMessage());
-        }
+        return llmGateway.execute(LlmProvider.CHATGPT, coalescingKey(request), () -> {
+            try {
+                return chatGPTInterface.getChatCompletion(request);
+            } catch (Exception e) {
+                log.error("Error while getting completion from ChatGPT", e);
+                throw new CustomErrorException(ErrorCode.FAILED_TO_CHATGPT_COMPLETION, e.getMessage());
+            }
+        });
+    }
+
+    private String coalescingKey(ChatGPTRequest request) {
+        return request.getModel() + "\n" + request.getMessages().stream()
+                .map(message -> message.getRole() + ":" + message.getContent())
+                .collect(Collectors.joining("\n"));
     }
 
     public String getCompletion(String text) {
@@ -46,6 +62,20 @@ public class ChatGptService {
                 .orElse(null);
     }
 
+    public void streamCompletion(String text, Consumer<String> onToken) {
+        ChatGPTRequest chatGPTRequest = new ChatGPTRequest(GPT_4, text, true);
+        llmGateway.executeStream(LlmProvider.CHATGPT, () -> {
+            try {
+                chatGPTStreamClient.streamChatCompletion(chatGPTRequest, onToken);
+            } catch (CustomErrorException | UncheckedIOException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Error while streaming completion from ChatGPT", e);
+                throw new CustomErrorException(ErrorCode.FAILED_TO_CHATGPT_COMPLETION, e.getMessage());
+            }
+        });
+    }
+
     public String getCompletion3(String text){
         ChatGPTRequest chatGPTRequest = new ChatGPTRequest(GPT_3_P_5, text);
         ChatGPTResponse response = getChatCompletion(chatGPTRequest);
@@ -8,12 +8,12 @@ import com.google.api.services.people.v1.PeopleService;
 import com.google.api.services.people.v1.model.ListOtherContactsResponse;
 import com.google.api.services.people.v1.model.Person;
 import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.AccessToken;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.OAuth2Credentials;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import woozlabs.echo.domain.contact.dto.GoogleContactResponseDto;
 import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
@@ -30,10 +30,11 @@ public class GooglePeopleService {
     private static final int PAGE_SIZE = 1000;
 
     private final AccountRepository accountRepository;
+    private final GoogleAccessTokenProvider googleAccessTokenProvider;
 
     private PeopleService createPeopleService(String accessToken) throws IOException, GeneralSecurityException {
         final NetHttpTransport HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
-        GoogleCredentials credentials = GoogleCredentials.create(new AccessToken(accessToken, null));
+        OAuth2Credentials credentials = googleAccessTokenProvider.createCredentials(accessToken, null);
 
         return new PeopleService.Builder(HTTP_TRANSPORT, JSON_FACTORY, new HttpCredentialsAdapter(credentials))
                 .setApplicationName(APPLICATION_NAME)
@@ -1,6 +1,8 @@
 package woozlabs.echo.domain.contactGroup.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import woozlabs.echo.domain.contactGroup.entity.ContactGroup;
 import woozlabs.echo.domain.member.entity.Account;
 
@@ -8,5 +10,7 @@ import java.util.List;
 
 public interface ContactGroupRepository extends JpaRepository<ContactGroup, Long> {
 
-    List<ContactGroup> findByOwner(Account owner);
+    // 응답에서 emails 를 모두 읽으므로 함께 조회
+    @Query("SELECT DISTINCT g FROM ContactGroup g LEFT JOIN FETCH g.emails WHERE g.owner = :owner")
+    List<ContactGroup> findByOwner(@Param("owner") Account owner);
 }
@@ -1,6 +1,8 @@
 package woozlabs.echo.domain.echo.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import woozlabs.echo.domain.echo.entity.EmailTemplate;
 import woozlabs.echo.domain.member.entity.Account;
 
@@ -8,5 +10,7 @@ import java.util.List;
 
 public interface EmailTemplateRepository extends JpaRepository<EmailTemplate, Long> {
 
-    List<EmailTemplate> findByAccount(Account account);
+    // 응답에서 recipients 를 모두 읽으므로 함께 조회
+    @Query("SELECT DISTINCT t FROM EmailTemplate t LEFT JOIN FETCH t.recipients WHERE t.account = :account")
+    List<EmailTemplate> findByAccount(@Param("account") Account account);
 }
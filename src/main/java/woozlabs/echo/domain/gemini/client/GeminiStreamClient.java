@@ -0,0 +1,70 @@
+package woozlabs.echo.domain.gemini.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import woozlabs.echo.domain.gemini.dto.GeminiRequest;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * streamGenerateContent(alt=sse) 호출.
+ * HttpServiceProxyFactory 인터페이스는 응답 전체를 한 번에 읽기 때문에 RestClient 로 직접 읽는다.
+ */
+@Slf4j
+@Component
+public class GeminiStreamClient {
+
+    private static final String SSE_DATA_PREFIX = "data:";
+
+    private final RestClient geminiRestClient;
+    private final ObjectMapper objectMapper;
+
+    public GeminiStreamClient(@Qualifier("geminiRestClient") RestClient geminiRestClient, ObjectMapper objectMapper) {
+        this.geminiRestClient = geminiRestClient;
+        this.objectMapper = objectMapper;
+    }
+
+    public void streamGenerateContent(String model, GeminiRequest request, Consumer<String> onToken) {
+        geminiRestClient.post()
+                .uri("/v1beta/models/{model}:streamGenerateContent?alt=sse", model)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(request)
+                .exchange((clientRequest, clientResponse) -> {
+                    if (clientResponse.getStatusCode().isError()) {
+                        throw new CustomErrorException(ErrorCode.FAILED_TO_GEMINI_COMPLETION,
+                                "Gemini stream responded with " + clientResponse.getStatusCode());
+                    }
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(clientResponse.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.startsWith(SSE_DATA_PREFIX)) continue;
+                            String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+                            if (data.isEmpty()) continue;
+                            relayText(objectMapper.readTree(data), onToken);
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private void relayText(JsonNode chunk, Consumer<String> onToken) {
+        JsonNode parts = chunk.path("candidates").path(0).path("content").path("parts");
+        for (JsonNode part : parts) {
+            String text = part.path("text").asText(null);
+            if (text != null && !text.isEmpty()) {
+                onToken.accept(text);
+            }
+        }
+    }
+}
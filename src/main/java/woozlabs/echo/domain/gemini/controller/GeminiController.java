@@ -4,16 +4,21 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import woozlabs.echo.domain.gemini.dto.ChangeToneRequest;
 import woozlabs.echo.domain.gemini.dto.ProofreadResponse;
 import woozlabs.echo.domain.gemini.service.GeminiService;
-import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetResponse;
-import woozlabs.echo.domain.gmail.service.GmailService;
-import woozlabs.echo.global.constant.GlobalConstant;
+import woozlabs.echo.domain.gemini.service.ThreadSummaryService;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.llm.SseStreamRelay;
+
+import java.io.IOException;
 
 @Slf4j
 @RestController
@@ -22,7 +27,9 @@ import woozlabs.echo.global.exception.ErrorCode;
 public class GeminiController {
 
     private final GeminiService geminiService;
-    private final GmailService gmailService;
+    private final ThreadSummaryService threadSummaryService;
+    private final GmailUtility gmailUtility;
+    private final SseStreamRelay sseStreamRelay;
 
     @PostMapping("/completion")
     public ResponseEntity<String> getCompletion(@RequestBody String text) {
@@ -31,11 +38,12 @@ public class GeminiController {
     }
 
     @PostMapping("/thread-summarize/{threadId}")
-    public ResponseEntity<String> summarizeGmailThread(HttpServletRequest httpServletRequest, @PathVariable("threadId") String threadId) {
-        String uid = (String) httpServletRequest.getAttribute(GlobalConstant.FIREBASE_UID_KEY);
+    public ResponseEntity<String> summarizeGmailThread(HttpServletRequest httpServletRequest,
+                                                       @PathVariable("threadId") String threadId,
+                                                       @RequestParam("aAUid") String aAUid) {
+        Account account = gmailUtility.getActiveAccount(httpServletRequest, aAUid);
         try {
-            GmailThreadGetResponse gmailThread = gmailService.getUserEmailThread(uid, threadId);
-            String summary = geminiService.summarizeGmailThread(gmailThread);
+            String summary = threadSummaryService.summarize(account, threadId);
             return ResponseEntity.ok(summary);
         } catch (Exception e) {
             log.error("Error summarizing Gmail thread: ", e);
@@ -86,4 +94,43 @@ public class GeminiController {
             throw new CustomErrorException(ErrorCode.FAILED_TO_EXTRACT_KEYPOINT, e.getMessage());
         }
     }
+
+    @PostMapping(value = "/thread-summarize/{threadId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSummarizeGmailThread(HttpServletRequest httpServletRequest,
+                                                 @PathVariable("threadId") String threadId,
+                                                 @RequestParam("aAUid") String aAUid) {
+        // 저장된 요약 확인과 thread 조회는 캐시 적중 시 생략되므로 스트리밍 executor 에서 함께 처리
+        Account account = gmailUtility.getActiveAccount(httpServletRequest, aAUid);
+        return sseStreamRelay.relay(ErrorCode.FAILED_TO_SUMMARIZE_GEMINI, onToken -> {
+            try {
+                threadSummaryService.streamSummarize(account, threadId, onToken);
+            } catch (IOException e) {
+                throw new CustomErrorException(ErrorCode.FAILED_TO_SUMMARIZE_GEMINI, e.getMessage());
+            }
+        });
+    }
+
+    @PostMapping(value = "/writer/change-tone/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChangeTone(@RequestBody ChangeToneRequest request) {
+        return sseStreamRelay.relay(ErrorCode.FAILED_TO_CHANGE_TONE,
+                onToken -> geminiService.streamChangeTone(request.getContents(), request.getParts(), request.getTone(), onToken));
+    }
+
+    @PostMapping(value = "/writer/proofread/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProofread(@RequestBody String text) {
+        return sseStreamRelay.relay(ErrorCode.FAILED_TO_PROOFREAD,
+                onToken -> geminiService.streamProofread(text, onToken));
+    }
+
+    @PostMapping(value = "/writer/summarize/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSummarize(@RequestBody String text) {
+        return sseStreamRelay.relay(ErrorCode.FAILED_TO_SUMMARIZE_TEXT,
+                onToken -> geminiService.streamSummarize(text, onToken));
+    }
+
+    @PostMapping(value = "/writer/keypoint/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamKeypoint(@RequestBody String text) {
+        return sseStreamRelay.relay(ErrorCode.FAILED_TO_EXTRACT_KEYPOINT,
+                onToken -> geminiService.streamKeypoint(text, onToken));
+    }
 }
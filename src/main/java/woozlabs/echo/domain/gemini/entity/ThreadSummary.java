@@ -0,0 +1,42 @@
+package woozlabs.echo.domain.gemini.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.global.common.entity.BaseEntity;
+
+import java.math.BigInteger;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "thread_id"}))
+public class ThreadSummary extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "account_id")
+    private Account account;
+
+    @Column(name = "thread_id")
+    private String threadId;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    private String lastMessageId;
+    private BigInteger historyId;
+
+    public void updateSummary(String summary, String lastMessageId, BigInteger historyId) {
+        this.summary = summary;
+        this.lastMessageId = lastMessageId;
+        this.historyId = historyId;
+    }
+}
@@ -39,6 +39,61 @@ public class ThreadSummaryPrompt {
             Please provide the summarized and refined version in the same language.
             """;
 
+    private static final String THREAD_CHUNK_SUMMARY_GUIDELINES = """
+            You are an AI assistant summarizing one part of a long Gmail thread.
+            This is part %d of %d. Other parts are summarized separately and combined later.
+            
+            Guidelines:
+            1. Summarize this part in no more than 3 short sentences.
+            2. Keep decisions, requests, action items, dates and amounts.
+            3. Omit pleasantries, greetings, signatures and quoted text.
+            4. Use the same language as the input.
+
+            Thread part:
+    
+            %s
+    
+            Summary of this part:
+            """;
+
+    private static final String THREAD_REDUCE_SUMMARY_GUIDELINES = """
+            You are an AI assistant specializing in creating extremely concise email summaries.
+            The following are partial summaries of one long Gmail thread, in chronological order.
+            
+            Guidelines:
+            1. Combine them into just 1 sentence with no more than 10 words.
+            2. Prefer the latest decisions or action items when parts conflict.
+            3. Do not mention names or email addresses unless absolutely crucial to the context.
+            4. IMPORTANT: Respond in English by default. Only if the input is clearly and predominantly in Korean, respond in Korean.
+
+            Partial summaries:
+    
+            %s
+    
+            Concise, natural summary (10 words or fewer) in the SAME LANGUAGE as the input:
+            """;
+
+    private static final String THREAD_INCREMENTAL_SUMMARY_GUIDELINES = """
+            You are an AI assistant specializing in creating extremely concise email summaries.
+            You already summarized the earlier part of a Gmail thread. New messages have arrived since then.
+            
+            Guidelines:
+            1. Update the previous summary with the new messages in just 1 sentence with no more than 10 words.
+            2. Prefer the latest decisions or action items when they replace earlier ones.
+            3. Do not mention names or email addresses unless absolutely crucial to the context.
+            4. IMPORTANT: Respond in English by default. Only if the input is clearly and predominantly in Korean, respond in Korean.
+
+            Previous summary:
+    
+            %s
+    
+            New messages:
+    
+            %s
+    
+            Concise, natural summary (10 words or fewer) in the SAME LANGUAGE as the input:
+            """;
+
     public static String getPrompt(String threadContent) {
         return String.format(THREAD_SUMMARY_GUIDELINES, threadContent);
     }
@@ -46,4 +101,16 @@ public class ThreadSummaryPrompt {
     public static String getGmailSummarizeGuidelinesPrompt(String threadContent) {
         return String.format(GMAIL_SUMMARIZE_GUIDELINES, threadContent);
     }
+
+    public static String getChunkPrompt(String chunkContent, int index, int total) {
+        return String.format(THREAD_CHUNK_SUMMARY_GUIDELINES, index, total, chunkContent);
+    }
+
+    public static String getReducePrompt(String partialSummaries) {
+        return String.format(THREAD_REDUCE_SUMMARY_GUIDELINES, partialSummaries);
+    }
+
+    public static String getIncrementalPrompt(String previousSummary, String newContent) {
+        return String.format(THREAD_INCREMENTAL_SUMMARY_GUIDELINES, previousSummary, newContent);
+    }
 }
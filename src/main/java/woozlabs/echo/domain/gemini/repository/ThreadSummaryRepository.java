@@ -0,0 +1,11 @@
+package woozlabs.echo.domain.gemini.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import woozlabs.echo.domain.gemini.entity.ThreadSummary;
+import woozlabs.echo.domain.member.entity.Account;
+
+import java.util.Optional;
+
+public interface ThreadSummaryRepository extends JpaRepository<ThreadSummary, Long> {
+    Optional<ThreadSummary> findByAccountAndThreadId(Account account, String threadId);
+}
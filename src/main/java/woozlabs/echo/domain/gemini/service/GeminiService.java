@@ -3,13 +3,14 @@ package woozlabs.echo.domain.gemini.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import woozlabs.echo.domain.gemini.GeminiInterface;
+import woozlabs.echo.domain.gemini.client.GeminiStreamClient;
 import woozlabs.echo.domain.gemini.dto.GeminiRequest;
 import woozlabs.echo.domain.gemini.dto.GeminiResponse;
 import woozlabs.echo.domain.gemini.dto.ProofreadResponse;
@@ -17,12 +18,23 @@ import woozlabs.echo.domain.gemini.prompt.ProofreadPrompt;
 import woozlabs.echo.domain.gemini.prompt.ThreadKeypointPrompt;
 import woozlabs.echo.domain.gemini.prompt.ThreadSummaryPrompt;
 import woozlabs.echo.domain.gemini.prompt.VerificationMailPrompt;
-import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetMessagesResponse;
+import woozlabs.echo.domain.gemini.util.ThreadChunker;
+import woozlabs.echo.domain.gemini.util.ThreadContentExtractor;
 import woozlabs.echo.domain.gmail.dto.thread.*;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
-
-import java.util.Base64;
+import woozlabs.echo.global.llm.LlmGateway;
+import woozlabs.echo.global.llm.LlmProvider;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,20 +46,29 @@ public class GeminiService {
     public static final String GEMINI_PRO_VISION = "gemini-pro-vision";
 
     private final GeminiInterface geminiInterface;
+    private final GeminiStreamClient geminiStreamClient;
     private final ObjectMapper objectMapper;
-
-    private GeminiResponse getCompletion(GeminiRequest request) {
-        try {
-            return geminiInterface.getCompletion(GEMINI_PRO, request);
-        } catch (Exception e) {
-            log.error("Error while getting completion from Gemini", e);
-            throw new CustomErrorException(ErrorCode.FAILED_TO_GEMINI_COMPLETION, e.getMessage());
-        }
+    private final LlmGateway llmGateway;
+    @Qualifier("llmChunkExecutor")
+    private final Executor llmChunkExecutor;
+
+    @Value("${gemini.summary.chunk-token-budget:6000}")
+    private int summaryChunkTokenBudget;
+
+    private GeminiResponse getCompletion(String coalescingKey, GeminiRequest request) {
+        return llmGateway.execute(LlmProvider.GEMINI, GEMINI_PRO + "\n" + coalescingKey, () -> {
+            try {
+                return geminiInterface.getCompletion(GEMINI_PRO, request);
+            } catch (Exception e) {
+                log.error("Error while getting completion from Gemini", e);
+                throw new CustomErrorException(ErrorCode.FAILED_TO_GEMINI_COMPLETION, e.getMessage());
+            }
+        });
     }
 
     public String getCompletion(String text) {
         GeminiRequest geminiRequest = new GeminiRequest(text);
-        GeminiResponse response = getCompletion(geminiRequest);
+        GeminiResponse response = getCompletion(text, geminiRequest);
 
         return response.getCandidates()
                 .stream()
@@ -60,7 +81,7 @@ public class GeminiService {
 
     public String getCompletionWithParts(String contents, String parts) {
         GeminiRequest geminiRequest = new GeminiRequest(contents, parts);
-        GeminiResponse response = getCompletion(geminiRequest);
+        GeminiResponse response = getCompletion(contents + "\n" + parts, geminiRequest);
 
         return response.getCandidates()
                 .stream()
@@ -71,69 +92,96 @@ public class GeminiService {
                 .orElse(null);
     }
 
+    private void streamCompletion(GeminiRequest request, Consumer<String> onToken) {
+        llmGateway.executeStream(LlmProvider.GEMINI, () -> {
+            try {
+                geminiStreamClient.streamGenerateContent(GEMINI_PRO, request, onToken);
+            } catch (CustomErrorException | UncheckedIOException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Error while streaming completion from Gemini", e);
+                throw new CustomErrorException(ErrorCode.FAILED_TO_GEMINI_COMPLETION, e.getMessage());
+            }
+        });
+    }
+
+    public void streamCompletion(String text, Consumer<String> onToken) {
+        streamCompletion(new GeminiRequest(text), onToken);
+    }
+
     public String summarizeGmailThread(GmailThreadGetResponse gmailThread) {
-        StringBuilder threadContent = new StringBuilder();
-        for (GmailThreadGetMessagesResponse message : gmailThread.getMessages()) {
-            extractContentFromPayload(message.getPayload(), threadContent);
-        }
-        String prompt = ThreadSummaryPrompt.getPrompt(threadContent.toString());
-        return getCompletion(prompt);
+        return getCompletion(buildThreadSummaryPrompt(gmailThread));
     }
 
-    private void extractContentFromPayload(GmailThreadGetPayload payload, StringBuilder threadContent) {
-        String mimeType = payload.getMimeType();
-        if ("text/plain".equals(mimeType) || "text/html".equals(mimeType)) {
-            processTextPart(payload, threadContent, mimeType);
-        } else if (mimeType != null && mimeType.startsWith("multipart/")) {
-            if (payload.getParts() != null) {
-                for (GmailThreadGetPart part : payload.getParts()) {
-                    extractContentFromPart(part, threadContent);
-                }
-            }
-        }
+    public void streamSummarizeGmailThread(GmailThreadGetResponse gmailThread, Consumer<String> onToken) {
+        streamCompletion(buildThreadSummaryPrompt(gmailThread), onToken);
     }
 
-    private void extractContentFromPart(GmailThreadGetPart part, StringBuilder threadContent) {
-        if (part == null) return;
+    public String summarizeThreadIncrementally(String previousSummary, List<GmailThreadGetMessagesResponse> newMessages) {
+        return getCompletion(buildIncrementalSummaryPrompt(previousSummary, newMessages));
+    }
 
-        String mimeType = part.getMimeType();
-        if ("text/plain".equals(mimeType) || "text/html".equals(mimeType)) {
-            processTextPart(part, threadContent, mimeType);
-        } else if (mimeType != null && mimeType.startsWith("multipart/")) {
-            if (part.getParts() != null) {
-                for (GmailThreadGetPart subPart : part.getParts()) {
-                    extractContentFromPart(subPart, threadContent);
-                }
-            }
+    public void streamSummarizeThreadIncrementally(String previousSummary, List<GmailThreadGetMessagesResponse> newMessages,
+                                                   Consumer<String> onToken) {
+        streamCompletion(buildIncrementalSummaryPrompt(previousSummary, newMessages), onToken);
+    }
+
+    /**
+     * 짧은 thread 는 그대로 한 번에 요약하고, budget 을 넘으면 chunk 별 요약(map)을 병렬로 받은 뒤
+     * 최종 요약(reduce) prompt 를 만든다.
+     */
+    private String buildThreadSummaryPrompt(GmailThreadGetResponse gmailThread) {
+        List<String> chunks = ThreadChunker.chunk(ThreadContentExtractor.extractMessages(gmailThread), summaryChunkTokenBudget);
+        if (chunks.size() <= 1) {
+            return ThreadSummaryPrompt.getPrompt(String.join("\n\n", chunks));
         }
+        return ThreadSummaryPrompt.getReducePrompt(summarizeChunks(chunks));
+    }
+
+    private String buildIncrementalSummaryPrompt(String previousSummary, List<GmailThreadGetMessagesResponse> newMessages) {
+        List<String> chunks = ThreadChunker.chunk(ThreadContentExtractor.extractMessages(newMessages), summaryChunkTokenBudget);
+        String newContent = chunks.size() <= 1 ? String.join("\n\n", chunks) : summarizeChunks(chunks);
+        return ThreadSummaryPrompt.getIncrementalPrompt(previousSummary, newContent);
     }
 
-    private void processTextPart(Object part, StringBuilder threadContent, String mimeType) {
-        // part가 Payload인지 Part인지 구분해서 body(본문 데이터) 불러옴
-        GmailThreadGetBody body = (part instanceof GmailThreadGetPayload)
-                ? ((GmailThreadGetPayload) part).getBody()
-                : ((GmailThreadGetPart) part).getBody();
+    private String summarizeChunks(List<String> chunks) {
+        int total = chunks.size();
+        List<CompletableFuture<String>> partialSummaries = new ArrayList<>();
+        for (int idx = 0; idx < total; idx++) {
+            String prompt = ThreadSummaryPrompt.getChunkPrompt(chunks.get(idx), idx + 1, total);
+            partialSummaries.add(CompletableFuture.supplyAsync(() -> getCompletion(prompt), llmChunkExecutor));
+        }
 
-        String bodyData = body.getData();
-        if (bodyData != null) {
-            String decodedBody = new String(Base64.getUrlDecoder().decode(bodyData));
-            if ("text/html".equals(mimeType)) {
-                Document doc = Jsoup.parse(decodedBody, "UTF-8");
-                decodedBody = doc.text();
+        try {
+            return partialSummaries.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining("\n"));
+        } catch (CompletionException e) {
+            partialSummaries.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof CustomErrorException customErrorException) {
+                throw customErrorException;
             }
-            threadContent.append(decodedBody).append("\n\n");
+            throw new CustomErrorException(ErrorCode.FAILED_TO_SUMMARIZE_GEMINI, e.getMessage());
         }
     }
 
     public String changeTone(String contents, String parts, String tone) {
-        String prompt = String.format(
+        return getCompletionWithParts(contents, buildChangeTonePrompt(contents, parts, tone));
+    }
+
+    public void streamChangeTone(String contents, String parts, String tone, Consumer<String> onToken) {
+        streamCompletion(new GeminiRequest(contents, buildChangeTonePrompt(contents, parts, tone)), onToken);
+    }
+
+    private String buildChangeTonePrompt(String contents, String parts, String tone) {
+        return String.format(
                 "Given the following context:\n\n%s\n\n" +
                         "Change the tone of only this specific part to %s, maintaining its original meaning:\n\n%s\n\n" +
                         "Provide only the modified part, keeping its length similar to the original. " +
                         "Do not explain or summarize other parts of the context.",
                 contents, tone, parts
         );
-        return getCompletionWithParts(contents, prompt);
     }
 
     public ProofreadResponse proofread(String text) {
@@ -150,13 +198,26 @@ public class GeminiService {
         }
     }
 
+    // 응답이 JSON 이라 클라이언트가 done 이벤트 이후 합쳐서 파싱한다
+    public void streamProofread(String text, Consumer<String> onToken) {
+        streamCompletion(ProofreadPrompt.getPrompt(text), onToken);
+    }
+
     public String summarize(String text) {
         String prompt = ThreadSummaryPrompt.getGmailSummarizeGuidelinesPrompt(text);
         return getCompletion(prompt);
     }
 
+    public void streamSummarize(String text, Consumer<String> onToken) {
+        streamCompletion(ThreadSummaryPrompt.getGmailSummarizeGuidelinesPrompt(text), onToken);
+    }
+
     public String keypoint(String text) {
         String prompt = ThreadKeypointPrompt.getPrompt(text);
         return getCompletion(prompt);
     }
+
+    public void streamKeypoint(String text, Consumer<String> onToken) {
+        streamCompletion(ThreadKeypointPrompt.getPrompt(text), onToken);
+    }
 }
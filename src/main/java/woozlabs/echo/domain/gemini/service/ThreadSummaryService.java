@@ -0,0 +1,155 @@
+package woozlabs.echo.domain.gemini.service;
+
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Thread;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import woozlabs.echo.domain.gemini.entity.ThreadSummary;
+import woozlabs.echo.domain.gemini.repository.ThreadSummaryRepository;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetMessagesResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetResponse;
+import woozlabs.echo.domain.gmail.service.GmailService;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * thread 요약을 마지막으로 요약한 message id, historyId 와 함께 저장해두고,
+ * 새 메시지가 없으면 저장된 요약을, 있으면 새 메시지만 이전 요약과 함께 보내 갱신한다.
+ * LLM 호출 중 DB 커넥션을 잡지 않도록 트랜잭션은 repository 호출 단위로만 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThreadSummaryService {
+
+    private final GeminiService geminiService;
+    private final ThreadSummaryRepository threadSummaryRepository;
+    private final GmailService gmailService;
+
+    // 저장된 요약이 있으면 minimal 조회로 먼저 확인하고, 갱신이 필요할 때만 thread 전체를 가져온다
+    public String summarize(Account account, String threadId) throws IOException {
+        Optional<ThreadSummary> stored = threadSummaryRepository.findByAccountAndThreadId(account, threadId);
+        if (stored.isPresent() && isUpToDate(account, threadId, stored.get())) {
+            return stored.get().getSummary();
+        }
+        GmailThreadGetResponse gmailThread = gmailService.getUserEmailThread(account.getAccessToken(), threadId);
+        return summarize(account, gmailThread, stored);
+    }
+
+    public String summarize(Account account, GmailThreadGetResponse gmailThread) {
+        Optional<ThreadSummary> stored = threadSummaryRepository.findByAccountAndThreadId(account, gmailThread.getId());
+        return summarize(account, gmailThread, stored);
+    }
+
+    public void streamSummarize(Account account, String threadId, Consumer<String> onToken) throws IOException {
+        Optional<ThreadSummary> stored = threadSummaryRepository.findByAccountAndThreadId(account, threadId);
+        if (stored.isPresent() && isUpToDate(account, threadId, stored.get())) {
+            onToken.accept(stored.get().getSummary());
+            return;
+        }
+        GmailThreadGetResponse gmailThread = gmailService.getUserEmailThread(account.getAccessToken(), threadId);
+        streamSummarize(account, gmailThread, stored, onToken);
+    }
+
+    public void streamSummarize(Account account, GmailThreadGetResponse gmailThread, Consumer<String> onToken) {
+        Optional<ThreadSummary> stored = threadSummaryRepository.findByAccountAndThreadId(account, gmailThread.getId());
+        streamSummarize(account, gmailThread, stored, onToken);
+    }
+
+    private String summarize(Account account, GmailThreadGetResponse gmailThread, Optional<ThreadSummary> stored) {
+        List<GmailThreadGetMessagesResponse> messages = getMessages(gmailThread);
+        GmailThreadGetMessagesResponse lastMessage = messages.get(messages.size() - 1);
+
+        if (stored.isPresent() && isUpToDate(stored.get(), lastMessage)) {
+            return stored.get().getSummary();
+        }
+
+        List<GmailThreadGetMessagesResponse> newMessages = stored.map(summary -> getMessagesAfter(summary, messages)).orElse(null);
+        String summary = newMessages == null
+                ? geminiService.summarizeGmailThread(gmailThread)
+                : geminiService.summarizeThreadIncrementally(stored.get().getSummary(), newMessages);
+        save(account, gmailThread, lastMessage, stored, summary);
+        return summary;
+    }
+
+    private void streamSummarize(Account account, GmailThreadGetResponse gmailThread, Optional<ThreadSummary> stored,
+                                 Consumer<String> onToken) {
+        List<GmailThreadGetMessagesResponse> messages = getMessages(gmailThread);
+        GmailThreadGetMessagesResponse lastMessage = messages.get(messages.size() - 1);
+
+        if (stored.isPresent() && isUpToDate(stored.get(), lastMessage)) {
+            onToken.accept(stored.get().getSummary());
+            return;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        Consumer<String> collectingOnToken = token -> {
+            summary.append(token);
+            onToken.accept(token);
+        };
+        List<GmailThreadGetMessagesResponse> newMessages = stored.map(threadSummary -> getMessagesAfter(threadSummary, messages)).orElse(null);
+        if (newMessages == null) {
+            geminiService.streamSummarizeGmailThread(gmailThread, collectingOnToken);
+        } else {
+            geminiService.streamSummarizeThreadIncrementally(stored.get().getSummary(), newMessages, collectingOnToken);
+        }
+        save(account, gmailThread, lastMessage, stored, summary.toString().trim());
+    }
+
+    private List<GmailThreadGetMessagesResponse> getMessages(GmailThreadGetResponse gmailThread) {
+        List<GmailThreadGetMessagesResponse> messages = gmailThread.getMessages();
+        if (messages == null || messages.isEmpty()) {
+            throw new CustomErrorException(ErrorCode.NOT_FOUND_GMAIL_THREAD);
+        }
+        return messages;
+    }
+
+    // historyId 가 같으면 thread 변경이 없고, 라벨 변경 등으로 달라졌어도 마지막 메시지가 같으면 요약은 그대로 유효
+    private boolean isUpToDate(Account account, String threadId, ThreadSummary threadSummary) throws IOException {
+        Thread thread = gmailService.getThreadMessageIds(account.getAccessToken(), threadId);
+        if (threadSummary.getHistoryId() != null && threadSummary.getHistoryId().equals(thread.getHistoryId())) {
+            return true;
+        }
+        List<Message> messages = thread.getMessages();
+        if (messages == null || messages.isEmpty()) return false;
+        return messages.get(messages.size() - 1).getId().equals(threadSummary.getLastMessageId());
+    }
+
+    private boolean isUpToDate(ThreadSummary threadSummary, GmailThreadGetMessagesResponse lastMessage) {
+        return lastMessage.getId().equals(threadSummary.getLastMessageId());
+    }
+
+    // 마지막으로 요약한 메시지가 삭제됐으면 null 을 반환해 전체를 다시 요약한다
+    private List<GmailThreadGetMessagesResponse> getMessagesAfter(ThreadSummary threadSummary, List<GmailThreadGetMessagesResponse> messages) {
+        for (int idx = 0; idx < messages.size(); idx++) {
+            if (messages.get(idx).getId().equals(threadSummary.getLastMessageId())) {
+                return messages.subList(idx + 1, messages.size());
+            }
+        }
+        return null;
+    }
+
+    private void save(Account account, GmailThreadGetResponse gmailThread, GmailThreadGetMessagesResponse lastMessage,
+                      Optional<ThreadSummary> stored, String summary) {
+        if (summary == null || summary.isBlank()) return;
+        try {
+            ThreadSummary threadSummary = stored.orElseGet(() -> ThreadSummary.builder()
+                    .account(account)
+                    .threadId(gmailThread.getId())
+                    .build());
+            threadSummary.updateSummary(summary, lastMessage.getId(), gmailThread.getHistoryId());
+            threadSummaryRepository.save(threadSummary);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 thread 를 요약한 경우, 먼저 저장된 요약을 유지
+            log.warn("Thread summary already saved concurrently, threadId: {}", gmailThread.getId());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package woozlabs.echo.domain.gemini.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ThreadChunker {
+
+    // 토크나이저 없이 대략 4글자 = 1토큰으로 추정
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final String MESSAGE_SEPARATOR = "\n\n";
+
+    public static int estimateTokens(String text) {
+        return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    /**
+     * 메시지 경계를 유지하면서 tokenBudget 이하의 chunk 로 묶는다.
+     * 한 메시지가 budget 을 넘으면 그 메시지만 글자 수 기준으로 자른다.
+     */
+    public static List<String> chunk(List<String> messages, int tokenBudget) {
+        int charBudget = tokenBudget * CHARS_PER_TOKEN;
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String message : messages) {
+            if (message.length() > charBudget) {
+                flush(current, chunks);
+                for (int start = 0; start < message.length(); start += charBudget) {
+                    chunks.add(message.substring(start, Math.min(message.length(), start + charBudget)));
+                }
+                continue;
+            }
+            if (current.length() + MESSAGE_SEPARATOR.length() + message.length() > charBudget) {
+                flush(current, chunks);
+            }
+            if (!current.isEmpty()) {
+                current.append(MESSAGE_SEPARATOR);
+            }
+            current.append(message);
+        }
+        flush(current, chunks);
+        return chunks;
+    }
+
+    private static void flush(StringBuilder current, List<String> chunks) {
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
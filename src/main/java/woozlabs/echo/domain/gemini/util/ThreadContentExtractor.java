@@ -0,0 +1,132 @@
+package woozlabs.echo.domain.gemini.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetBody;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetMessagesResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetPart;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetPayload;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class ThreadContentExtractor {
+
+    private static final String TEXT_PLAIN = "text/plain";
+    private static final String TEXT_HTML = "text/html";
+    private static final String MULTIPART_PREFIX = "multipart/";
+    private static final String MULTIPART_ALTERNATIVE = "multipart/alternative";
+
+    // gmail, outlook, yahoo, apple mail 인용 블록
+    private static final String HTML_QUOTE_SELECTOR =
+            ".gmail_quote, .gmail_extra, blockquote, .yahoo_quoted, #divRplyFwdMsg, #appendonsend";
+
+    // "On Mon, Jul 1, 2024 at 3:00 PM X <x@y.com> wrote:", "2024년 7월 1일 (월) 오후 3:00, X <x@y.com>님이 작성:"
+    private static final Pattern QUOTE_HEADER = Pattern.compile(
+            "^(On\\s.+wrote:|.+님이\\s*작성:|-{2,}\\s*Original Message\\s*-{2,}|-{2,}\\s*Forwarded message\\s*-{2,})\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    // outlook 은 "____" 구분선 또는 Original/Forwarded 줄 다음에 From: 헤더 블록이 온다. 본문의 "From: " 줄은 인용으로 보지 않음
+    private static final Pattern QUOTE_SEPARATOR = Pattern.compile(
+            "^(_{5,}|-{2,}\\s*Original Message\\s*-{2,}|-{2,}\\s*Forwarded message\\s*-{2,})\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern FROM_HEADER = Pattern.compile("^From:\\s.+$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 메시지 단위로 본문을 추출한다. 이전 메시지를 인용한 부분은 제거한다.
+     */
+    public static List<String> extractMessages(GmailThreadGetResponse gmailThread) {
+        return extractMessages(gmailThread.getMessages());
+    }
+
+    public static List<String> extractMessages(List<GmailThreadGetMessagesResponse> messages) {
+        List<String> contents = new ArrayList<>();
+        for (GmailThreadGetMessagesResponse message : messages) {
+            GmailThreadGetPayload payload = message.getPayload();
+            if (payload == null) continue;
+
+            StringBuilder messageContent = new StringBuilder();
+            extractContent(payload.getMimeType(), payload.getBody(), payload.getParts(), messageContent);
+            String content = messageContent.toString().trim();
+            if (!content.isEmpty()) {
+                contents.add(content);
+            }
+        }
+        return contents;
+    }
+
+    private static void extractContent(String mimeType, GmailThreadGetBody body, List<GmailThreadGetPart> parts, StringBuilder messageContent) {
+        if (TEXT_PLAIN.equals(mimeType) || TEXT_HTML.equals(mimeType)) {
+            appendTextPart(mimeType, body, messageContent);
+        } else if (mimeType != null && mimeType.startsWith(MULTIPART_PREFIX) && parts != null) {
+            if (MULTIPART_ALTERNATIVE.equals(mimeType)) {
+                // 같은 본문의 plain/html 버전이므로 하나만 사용
+                GmailThreadGetPart preferred = selectAlternative(parts);
+                if (preferred != null) {
+                    extractContent(preferred.getMimeType(), preferred.getBody(), preferred.getParts(), messageContent);
+                }
+                return;
+            }
+            for (GmailThreadGetPart part : parts) {
+                if (part == null) continue;
+                extractContent(part.getMimeType(), part.getBody(), part.getParts(), messageContent);
+            }
+        }
+    }
+
+    private static GmailThreadGetPart selectAlternative(List<GmailThreadGetPart> parts) {
+        GmailThreadGetPart fallback = null;
+        for (GmailThreadGetPart part : parts) {
+            if (part == null) continue;
+            if (TEXT_PLAIN.equals(part.getMimeType())) return part;
+            if (fallback == null) fallback = part;
+        }
+        return fallback;
+    }
+
+    private static void appendTextPart(String mimeType, GmailThreadGetBody body, StringBuilder messageContent) {
+        if (body == null || body.getData() == null) return;
+
+        String decodedBody = new String(Base64.getUrlDecoder().decode(body.getData()), StandardCharsets.UTF_8);
+        String text = TEXT_HTML.equals(mimeType) ? htmlToText(decodedBody) : stripQuotedReply(decodedBody);
+        if (!text.isBlank()) {
+            messageContent.append(text.trim()).append("\n\n");
+        }
+    }
+
+    private static String htmlToText(String html) {
+        Document doc = Jsoup.parse(html, "UTF-8");
+        doc.select(HTML_QUOTE_SELECTOR).remove();
+        return doc.text();
+    }
+
+    public static String stripQuotedReply(String plainText) {
+        StringBuilder stripped = new StringBuilder();
+        String previousLine = "";
+        int previousLineStart = 0;
+        for (String line : plainText.split("\\r?\\n")) {
+            String trimmed = line.trim();
+            boolean fromHeader = FROM_HEADER.matcher(trimmed).matches()
+                    && QUOTE_SEPARATOR.matcher(previousLine).matches();
+            if (fromHeader) {
+                stripped.setLength(previousLineStart); // 구분선도 인용 블록에 포함
+            }
+            if (fromHeader || QUOTE_HEADER.matcher(trimmed).matches()) {
+                if (!stripped.toString().isBlank()) break;
+                previousLine = trimmed;
+                previousLineStart = stripped.length();
+                continue;
+            }
+            if (trimmed.startsWith(">")) continue;
+            if (!trimmed.isEmpty()) {
+                previousLine = trimmed;
+                previousLineStart = stripped.length();
+            }
+            stripped.append(line).append('\n');
+        }
+        return stripped.toString();
+    }
+}
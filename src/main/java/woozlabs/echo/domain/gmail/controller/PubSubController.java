@@ -11,6 +11,7 @@ import woozlabs.echo.domain.gmail.dto.pubsub.FcmTokenRequest;
 import woozlabs.echo.domain.gmail.dto.pubsub.FcmTokenResponse;
 import woozlabs.echo.domain.gmail.dto.pubsub.GetVerificationDataResponse;
 import woozlabs.echo.domain.gmail.dto.pubsub.PubSubMessage;
+import woozlabs.echo.domain.gmail.service.PubSubNotificationDispatcher;
 import woozlabs.echo.domain.gmail.service.PubSubService;
 import woozlabs.echo.domain.gmail.util.GmailUtility;
 import woozlabs.echo.global.constant.GlobalConstant;
@@ -21,17 +22,17 @@ import woozlabs.echo.global.dto.ResponseDto;
 @RequiredArgsConstructor
 public class PubSubController {
     private final PubSubService pubSubService;
+    private final PubSubNotificationDispatcher pubSubNotificationDispatcher;
     private final GmailUtility gmailUtility;
 
     @PostMapping(value = "/api/v1/webhook", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ResponseDto> handleGmailWebhook(@RequestBody PubSubMessage pubsubMessage){
         log.info("Request to webhook from gcp pub/sub");
-        try{
-            pubSubService.handleFirebaseCloudMessage(pubsubMessage);
-            return new ResponseEntity<>(HttpStatus.OK);
-        } catch (Exception e){
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        if(!pubSubNotificationDispatcher.dispatch(pubsubMessage)){
+            // worker queue 가 가득 찬 경우 Pub/Sub 재전송에 맡김
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
         }
+        return new ResponseEntity<>(HttpStatus.OK);
     }
 
     @PostMapping("/api/v1/fcm")
@@ -0,0 +1,22 @@
+package woozlabs.echo.domain.gmail.dto.pubsub;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class FcmNotification {
+    private String messageId;
+    private String threadId;
+    private HistoryType historyType;
+    private String title; // null 이면 data-only 메시지
+    private String body;
+    private boolean verification;
+    private Map<String, String> data;
+
+    public boolean isDataOnly(){
+        return title == null;
+    }
+}
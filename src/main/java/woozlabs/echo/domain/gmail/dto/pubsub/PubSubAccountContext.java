@@ -0,0 +1,30 @@
+package woozlabs.echo.domain.gmail.dto.pubsub;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import woozlabs.echo.domain.gmail.entity.PubSubHistory;
+import woozlabs.echo.domain.member.entity.Account;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public class PubSubAccountContext {
+    private Account account;
+    private PubSubHistory pubSubHistory;
+    private List<String> fcmTokens;
+
+    // PubSubHistoryRepository.findAccountContextByEmail 의 (PubSubHistory, fcmToken) row 들을 합친다
+    public static Optional<PubSubAccountContext> fromRows(List<Object[]> rows){
+        if(rows.isEmpty()) return Optional.empty();
+        PubSubHistory pubSubHistory = (PubSubHistory) rows.get(0)[0];
+        List<String> fcmTokens = rows.stream()
+                .map(row -> (String) row[1])
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return Optional.of(new PubSubAccountContext(pubSubHistory.getAccount(), pubSubHistory, fcmTokens));
+    }
+}
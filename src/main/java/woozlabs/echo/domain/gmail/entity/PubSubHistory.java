@@ -7,16 +7,24 @@ import org.hibernate.annotations.OnDeleteAction;
 import woozlabs.echo.domain.member.entity.Account;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_pub_sub_history_watch_expiration", columnList = "watch_expiration"))
 public class PubSubHistory {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private BigInteger historyId;
+    @Column(name = "watch_expiration")
+    private Long watchExpiration; // epoch millis, null 이면 watch 중이 아님
+    @Column(name = "watch_label_ids")
+    private String watchLabelIds;
     @OneToOne(fetch = FetchType.LAZY)
     @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "account_id")
@@ -25,4 +33,18 @@ public class PubSubHistory {
     public void updateHistoryId(BigInteger recentHistoryId){
         this.historyId = recentHistoryId;
     }
+
+    public void updateWatch(Long expiration, List<String> labelIds){
+        this.watchExpiration = expiration;
+        this.watchLabelIds = labelIds == null ? null : String.join(",", labelIds);
+    }
+
+    public void clearWatch(){
+        this.watchExpiration = null;
+    }
+
+    public List<String> getWatchLabelIdList(){
+        if(watchLabelIds == null || watchLabelIds.isBlank()) return Collections.emptyList();
+        return Arrays.asList(watchLabelIds.split(","));
+    }
 }
\ No newline at end of file
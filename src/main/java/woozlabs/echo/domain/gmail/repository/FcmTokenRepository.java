@@ -1,8 +1,10 @@
 package woozlabs.echo.domain.gmail.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import woozlabs.echo.domain.gmail.entity.FcmToken;
 import woozlabs.echo.domain.member.entity.Account;
 
@@ -15,4 +17,9 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
 
     @Query("select count(fcm) from FcmToken fcm where fcm.account = :account")
     Long findTokenCountByAccount(@Param("account") Account account);
-}
\ No newline at end of file
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from FcmToken fcm where fcm.fcmToken in :fcmTokens")
+    int deleteByFcmTokenIn(@Param("fcmTokens") List<String> fcmTokens);
+}
@@ -0,0 +1,31 @@
+package woozlabs.echo.domain.gmail.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import woozlabs.echo.domain.gmail.entity.ProcessedEvent;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, Long> {
+
+    // 만료된 key 만 다시 선점할 수 있다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ProcessedEvent e set e.expiresAt = :expiresAt where e.eventKey = :eventKey and e.expiresAt < :now")
+    int reclaimExpired(@Param("eventKey") String eventKey,
+                       @Param("now") LocalDateTime now,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ProcessedEvent e where e.eventKey = :eventKey")
+    int deleteByEventKey(@Param("eventKey") String eventKey);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ProcessedEvent e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
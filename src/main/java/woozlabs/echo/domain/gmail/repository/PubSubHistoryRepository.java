@@ -1,11 +1,58 @@
 package woozlabs.echo.domain.gmail.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import woozlabs.echo.domain.gmail.entity.PubSubHistory;
 import woozlabs.echo.domain.member.entity.Account;
 
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PubSubHistoryRepository extends JpaRepository<PubSubHistory, Long> {
     Optional<PubSubHistory> findByAccount(Account account);
+
+    // webhook 처리에 필요한 account, history cursor, fcm token 을 한 번에 조회 (token 개수만큼 row)
+    @Query("select p, fcm.fcmToken from PubSubHistory p join fetch p.account a " +
+            "left join FcmToken fcm on fcm.account = a where a.email = :email")
+    List<Object[]> findAccountContextByEmail(@Param("email") String email);
+
+    @Query("select p from PubSubHistory p join fetch p.account where p.id = :id")
+    Optional<PubSubHistory> findWithAccountById(@Param("id") Long id);
+
+    @Query("select p.id from PubSubHistory p where p.account.uid in :accountUids")
+    List<Long> findIdsByAccountUids(@Param("accountUids") Collection<String> accountUids);
+
+    // (id, watchExpiration)
+    @Query("select p.id, p.watchExpiration from PubSubHistory p where p.watchExpiration is not null")
+    List<Object[]> findWatchExpirations();
+
+    // 다른 서버가 먼저 갱신했으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PubSubHistory p SET p.watchExpiration = :newExpiration WHERE p.id = :id AND p.watchExpiration = :expectedExpiration")
+    int compareAndSetWatchExpiration(@Param("id") Long id,
+                                     @Param("expectedExpiration") Long expectedExpiration,
+                                     @Param("newExpiration") Long newExpiration);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PubSubHistory p SET p.watchExpiration = null WHERE p.account = :account")
+    int clearWatchByAccount(@Param("account") Account account);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PubSubHistory p SET p.watchExpiration = null WHERE p.account IN :accounts")
+    int clearWatchByAccounts(@Param("accounts") Collection<Account> accounts);
+
+    // cursor 는 앞으로만 이동, 다른 서버가 이미 더 앞까지 처리했으면 0
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PubSubHistory p SET p.historyId = :newHistoryId WHERE p.id = :id AND p.historyId < :newHistoryId")
+    int advanceHistoryId(@Param("id") Long id,
+                         @Param("newHistoryId") BigInteger newHistoryId);
 }
\ No newline at end of file
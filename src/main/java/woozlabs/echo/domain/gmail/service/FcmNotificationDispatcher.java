@@ -0,0 +1,202 @@
+package woozlabs.echo.domain.gmail.service;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.gmail.dto.pubsub.FcmNotification;
+import woozlabs.echo.domain.gmail.dto.pubsub.HistoryType;
+import woozlabs.echo.domain.gmail.repository.FcmTokenRepository;
+import woozlabs.echo.domain.member.entity.Account;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 계정별로 짧은 시간(fcm.batch-window-ms) 동안 알림을 모아서 보낸다.
+ * 여러 개의 알림은 history type 별 digest 하나로 합치고(verification 알림은 코드 때문에 개별 전송),
+ * data-only 라벨 변경은 메시지별 마지막 변경만 보낸다.
+ * 토큰은 webhook 이 account context 와 함께 조회한 것 중 가장 최근 것을 사용하고,
+ * 전송 결과(BatchResponse)에서 UNREGISTERED/INVALID_ARGUMENT 토큰은 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmNotificationDispatcher {
+
+    private static final String DIGEST_TYPE = "DIGEST";
+    private static final String DIGEST_TITLE_FORMAT = "%d new emails";
+    private static final int MAX_DIGEST_BODY_LINES = 5;
+    private static final int MAX_DIGEST_IDS = 50; // FCM data payload 4KB 제한
+    private static final int MAX_WEBPUSH_TOPIC_LENGTH = 32;
+
+    private final FcmTokenRepository fcmTokenRepository;
+    @Qualifier("fcmFlushScheduler")
+    private final TaskScheduler fcmFlushScheduler;
+    private final ConcurrentHashMap<Long, PendingNotifications> pendingNotifications = new ConcurrentHashMap<>();
+
+    @Value("${fcm.batch-window-ms:500}")
+    private long batchWindowMs;
+
+    public void enqueue(Account account, List<String> fcmTokens, FcmNotification notification) {
+        boolean[] firstInWindow = {false};
+        pendingNotifications.compute(account.getId(), (accountId, buffer) -> {
+            if (buffer == null) {
+                buffer = new PendingNotifications();
+                firstInWindow[0] = true;
+            }
+            buffer.fcmTokens = fcmTokens;
+            buffer.notifications.add(notification);
+            return buffer;
+        });
+        if (firstInWindow[0]) {
+            fcmFlushScheduler.schedule(() -> flush(account), Instant.now().plusMillis(batchWindowMs));
+        }
+    }
+
+    private void flush(Account account) {
+        PendingNotifications pending = pendingNotifications.remove(account.getId());
+        if (pending == null || pending.notifications.isEmpty()) return;
+        List<String> fcmTokens = pending.fcmTokens;
+        if (fcmTokens == null || fcmTokens.isEmpty()) return;
+        try {
+            for (MulticastMessage message : buildMessages(account, pending.notifications, fcmTokens)) {
+                send(message, fcmTokens);
+            }
+        } catch (Exception e) {
+            log.error("Failed to send FCM notifications, account: {}", account.getId(), e);
+        }
+    }
+
+    static List<MulticastMessage> buildMessages(Account account, List<FcmNotification> notifications, List<String> fcmTokens) {
+        List<MulticastMessage> messages = new ArrayList<>();
+        Map<HistoryType, List<FcmNotification>> alerts = new LinkedHashMap<>();
+        Map<String, FcmNotification> dataOnly = new LinkedHashMap<>();
+        for (FcmNotification notification : notifications) {
+            if (notification.isVerification()) {
+                messages.add(toMessage(notification.getTitle(), notification.getBody(), notification.getData(), null, fcmTokens));
+            } else if (notification.isDataOnly()) {
+                dataOnly.put(notification.getMessageId(), notification); // 같은 메시지는 마지막 라벨 변경만
+            } else {
+                alerts.computeIfAbsent(notification.getHistoryType(), type -> new ArrayList<>()).add(notification);
+            }
+        }
+        alerts.forEach((historyType, burst) -> {
+            if (burst.size() == 1) {
+                FcmNotification notification = burst.get(0);
+                messages.add(toMessage(notification.getTitle(), notification.getBody(), notification.getData(),
+                        notification.getThreadId(), fcmTokens));
+            } else {
+                messages.add(toDigestMessage(account, historyType, burst, fcmTokens));
+            }
+        });
+        dataOnly.values().forEach(notification ->
+                messages.add(toMessage(null, null, notification.getData(), notification.getMessageId(), fcmTokens)));
+        return messages;
+    }
+
+    private static MulticastMessage toDigestMessage(Account account, HistoryType historyType, List<FcmNotification> burst, List<String> fcmTokens) {
+        List<FcmNotification> included = burst.subList(0, Math.min(burst.size(), MAX_DIGEST_IDS));
+        Map<String, String> data = new HashMap<>();
+        data.put("type", DIGEST_TYPE);
+        data.put("historyType", historyType.getType());
+        data.put("aAUid", account.getUid());
+        data.put("count", String.valueOf(burst.size()));
+        data.put("ids", included.stream().map(FcmNotification::getMessageId).collect(Collectors.joining(",")));
+        data.put("threadIds", included.stream().map(FcmNotification::getThreadId).distinct().collect(Collectors.joining(",")));
+        String title = historyType.equals(HistoryType.MESSAGE_ADDED)
+                ? String.format(DIGEST_TITLE_FORMAT, burst.size())
+                : burst.get(0).getTitle();
+        String body = historyType.equals(HistoryType.MESSAGE_ADDED)
+                ? burst.stream()
+                        .limit(MAX_DIGEST_BODY_LINES)
+                        .map(notification -> notification.getTitle() + ": " + notification.getBody())
+                        .collect(Collectors.joining("\n"))
+                : burst.get(0).getBody();
+        // 이어서 오는 digest 는 이전 digest 를 대체
+        String collapseKey = DIGEST_TYPE.toLowerCase() + "-" + historyType.getType().toLowerCase();
+        return toMessage(title, body, data, collapseKey, fcmTokens);
+    }
+
+    private static MulticastMessage toMessage(String title, String body, Map<String, String> data, String collapseKey, List<String> fcmTokens) {
+        MulticastMessage.Builder builder = MulticastMessage.builder()
+                .addAllTokens(fcmTokens)
+                .putAllData(data);
+        if (title != null) {
+            builder.setNotification(Notification.builder().setTitle(title).setBody(body).build());
+        }
+        if (collapseKey != null) {
+            builder.setAndroidConfig(AndroidConfig.builder().setCollapseKey(collapseKey).build())
+                    .setApnsConfig(ApnsConfig.builder()
+                            .putHeader("apns-collapse-id", collapseKey)
+                            .setAps(Aps.builder().build())
+                            .build())
+                    .setWebpushConfig(WebpushConfig.builder()
+                            .putHeader("Topic", toWebpushTopic(collapseKey))
+                            .build());
+        }
+        return builder.build();
+    }
+
+    // Web Push Topic 은 URL-safe base64 문자 32자 이하만 허용
+    private static String toWebpushTopic(String collapseKey) {
+        String topic = collapseKey.replaceAll("[^A-Za-z0-9_-]", "");
+        return topic.length() > MAX_WEBPUSH_TOPIC_LENGTH ? topic.substring(0, MAX_WEBPUSH_TOPIC_LENGTH) : topic;
+    }
+
+    private void send(MulticastMessage message, List<String> fcmTokens) {
+        ApiFuture<BatchResponse> future = FirebaseMessaging.getInstance().sendEachForMulticastAsync(message);
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse response) {
+                List<String> deadTokens = findDeadTokens(fcmTokens, response);
+                if (deadTokens.isEmpty()) return;
+                int deleted = fcmTokenRepository.deleteByFcmTokenIn(deadTokens);
+                log.info("Deleted {} invalid FCM tokens", deleted);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                log.error("Failed to send FCM multicast message", t);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    // responses 는 요청한 token 순서와 같다
+    static List<String> findDeadTokens(List<String> fcmTokens, BatchResponse response) {
+        List<String> unregistered = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int idx = 0; idx < responses.size(); idx++) {
+            SendResponse sendResponse = responses.get(idx);
+            if (sendResponse.isSuccessful() || sendResponse.getException() == null) continue;
+            MessagingErrorCode errorCode = sendResponse.getException().getMessagingErrorCode();
+            if (MessagingErrorCode.UNREGISTERED.equals(errorCode)) {
+                unregistered.add(fcmTokens.get(idx));
+            } else if (MessagingErrorCode.INVALID_ARGUMENT.equals(errorCode)) {
+                invalid.add(fcmTokens.get(idx));
+            }
+        }
+        // 모든 token 이 INVALID_ARGUMENT 면 token 이 아니라 payload 문제이므로 삭제하지 않음
+        if (!invalid.isEmpty() && invalid.size() == fcmTokens.size()) {
+            log.error("FCM rejected the message payload for every token");
+            return unregistered;
+        }
+        unregistered.addAll(invalid);
+        return unregistered;
+    }
+
+    private static class PendingNotifications {
+        private final List<FcmNotification> notifications = new ArrayList<>();
+        private List<String> fcmTokens;
+    }
+}
@@ -51,9 +51,10 @@ import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.domain.member.entity.MemberAccount;
 import woozlabs.echo.domain.member.repository.AccountRepository;
 import woozlabs.echo.domain.member.repository.query.MemberAccountQueryRepository;
-import woozlabs.echo.domain.member.service.AccountService;
+import woozlabs.echo.domain.member.service.LastLoginTracker;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.scheduler.GmailWatchRenewalScheduler;
 import woozlabs.echo.global.utils.GlobalUtility;
 
 import java.io.ByteArrayOutputStream;
@@ -85,11 +86,12 @@ public class GmailService {
     private final FcmTokenRepository fcmTokenRepository;
     private final GmailUtility gmailUtility;
     private final PubSubValidator pubSubValidator;
-    private final AccountService accountService;
+    private final LastLoginTracker lastLoginTracker;
+    private final GmailWatchRenewalScheduler gmailWatchRenewalScheduler;
 
     public GmailThreadListResponse getQueryUserEmailThreads(String accessToken, String pageToken, Long maxResults, String q, String aAUid) {
         // last login update
-        accountService.findAccountAndUpdateLastLogin(aAUid);
+        lastLoginTracker.record(aAUid);
 
         Gmail gmailService = gmailUtility.createGmailService(accessToken);
         // ---- temp data ----
@@ -230,6 +232,37 @@ public class GmailService {
         }
     }
 
+    // 본문 없이 historyId 만 조회 (캐시된 thread/message 가 바뀌었는지 확인용)
+    public BigInteger getThreadHistoryId(String accessToken, String threadId) throws IOException {
+        Gmail gmailService = gmailUtility.createGmailService(accessToken);
+        return gmailService.users().threads()
+                .get(USER_ID, threadId)
+                .setFormat(THREADS_GET_MINIMAL_FORMAT)
+                .setFields("historyId")
+                .execute()
+                .getHistoryId();
+    }
+
+    // 요약 캐시 확인용: 본문 없이 historyId 와 message id 만 조회
+    public Thread getThreadMessageIds(String accessToken, String threadId) throws IOException {
+        Gmail gmailService = gmailUtility.createGmailService(accessToken);
+        return gmailService.users().threads()
+                .get(USER_ID, threadId)
+                .setFormat(THREADS_GET_MINIMAL_FORMAT)
+                .setFields("historyId,messages/id")
+                .execute();
+    }
+
+    public BigInteger getMessageHistoryId(String accessToken, String messageId) throws IOException {
+        Gmail gmailService = gmailUtility.createGmailService(accessToken);
+        return gmailService.users().messages()
+                .get(USER_ID, messageId)
+                .setFormat(THREADS_GET_MINIMAL_FORMAT)
+                .setFields("historyId")
+                .execute()
+                .getHistoryId();
+    }
+
     public GmailMessageGetResponse getUserEmailMessageWithoutVerification(String uid, String messageId) throws Exception {
         Account account = accountRepository.findByUid(uid).orElseThrow(
                 () -> new CustomErrorException(ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE));
@@ -445,18 +478,22 @@ public class GmailService {
             WatchRequest watchRequest = new WatchRequest()
                     .setLabelIds(dto.getLabelIds())
                     .setLabelFilterBehavior("include")
-                    .setTopicName("projects/echo-email-app/topics/gmail");
+                    .setTopicName(PUB_SUB_TOPIC_NAME);
             WatchResponse watchResponse = gmailService.users().watch(USER_ID, watchRequest).execute();
             Optional<PubSubHistory> pubSubHistory = pubSubHistoryRepository.findByAccount(activeAccount);
+            PubSubHistory watchedHistory;
             if(pubSubHistory.isEmpty()){
-                PubSubHistory newHistory = PubSubHistory.builder()
+                watchedHistory = PubSubHistory.builder()
                         .historyId(watchResponse.getHistoryId())
                         .account(activeAccount).build();
-                pubSubHistoryRepository.save(newHistory);
+                pubSubHistoryRepository.save(watchedHistory);
             }else{
-                PubSubHistory findHistory = pubSubHistory.get();
-                findHistory.updateHistoryId(watchResponse.getHistoryId());
+                watchedHistory = pubSubHistory.get();
+                watchedHistory.updateHistoryId(watchResponse.getHistoryId());
             }
+            // 만료 전에 서버에서 갱신
+            watchedHistory.updateWatch(watchResponse.getExpiration(), dto.getLabelIds());
+            gmailWatchRenewalScheduler.register(watchedHistory.getId(), watchResponse.getExpiration());
             return PubSubWatchResponse.builder()
                     .historyId(watchResponse.getHistoryId())
                     .expiration(watchResponse.getExpiration()).build();
@@ -475,13 +512,25 @@ public class GmailService {
                 String accessToken = account.getAccessToken();
                 Gmail gmailService = gmailUtility.createGmailService(accessToken);
                 gmailService.users().stop(USER_ID).execute();
+                pubSubHistoryRepository.clearWatchByAccount(account);
+                gmailWatchRenewalScheduler.unregisterAccounts(List.of(account.getUid()));
             }else{
                 List<MemberAccount> memberAccounts = memberAccountQueryRepository.findByMemberPrimaryUid(uid);
-                for(MemberAccount memberAccount : memberAccounts){
-                    Account account = memberAccount.getAccount();
-                    String accessToken = account.getAccessToken();
-                    Gmail gmailService = gmailUtility.createGmailService(accessToken);
-                    gmailService.users().stop(USER_ID).execute();
+                List<Account> stoppedAccounts = new ArrayList<>();
+                try{
+                    for(MemberAccount memberAccount : memberAccounts){
+                        Account account = memberAccount.getAccount();
+                        String accessToken = account.getAccessToken();
+                        Gmail gmailService = gmailUtility.createGmailService(accessToken);
+                        gmailService.users().stop(USER_ID).execute();
+                        stoppedAccounts.add(account);
+                    }
+                }finally {
+                    // 중간에 실패해도 이미 중지한 계정의 watch 는 한 번에 해제
+                    if(!stoppedAccounts.isEmpty()){
+                        pubSubHistoryRepository.clearWatchByAccounts(stoppedAccounts);
+                        gmailWatchRenewalScheduler.unregisterAccounts(stoppedAccounts.stream().map(Account::getUid).toList());
+                    }
                 }
             }
         }catch (IOException e) {
@@ -0,0 +1,80 @@
+package woozlabs.echo.domain.gmail.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.gmail.dto.pubsub.HistoryType;
+import woozlabs.echo.domain.gmail.entity.ProcessedEvent;
+import woozlabs.echo.domain.gmail.repository.ProcessedEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Pub/Sub 재전송이나 재시도로 같은 알림/메시지를 다시 처리하지 않도록 처리한 key 를 TTL 동안 기억한다.
+ * 메모리(Caffeine, 크기 제한)에서 먼저 확인하고, 여러 서버 간 중복은 processed_event 의 unique key 로 막는다.
+ */
+@Slf4j
+@Component
+public class PubSubIdempotencyStore {
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final Duration ttl;
+    private final Cache<String, Boolean> processedKeys;
+
+    public PubSubIdempotencyStore(ProcessedEventRepository processedEventRepository,
+                                  @Value("${pubsub.idempotency.ttl-hours:24}") long ttlHours,
+                                  @Value("${pubsub.idempotency.max-size:100000}") long maxSize) {
+        this.processedEventRepository = processedEventRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.processedKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public static String pubSubMessageKey(String pubSubMessageId) {
+        return "pubsub:" + pubSubMessageId;
+    }
+
+    public static String historyKey(Long accountId, String messageId, HistoryType historyType) {
+        return "gmail:" + accountId + ":" + messageId + ":" + historyType.getType();
+    }
+
+    /**
+     * 처음 보는 key 면 선점하고 true, 이미 처리했거나 처리 중인 key 면 false 를 반환한다.
+     */
+    public boolean tryAcquire(String key) {
+        if (processedKeys.getIfPresent(key) != null) return false;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        boolean acquired;
+        try {
+            processedEventRepository.saveAndFlush(ProcessedEvent.builder()
+                    .eventKey(key)
+                    .expiresAt(expiresAt)
+                    .build());
+            acquired = true;
+        } catch (DataIntegrityViolationException e) {
+            acquired = processedEventRepository.reclaimExpired(key, now, expiresAt) > 0;
+        }
+        processedKeys.put(key, Boolean.TRUE);
+        return acquired;
+    }
+
+    // 처리에 실패한 key 는 다음 재시도에서 다시 처리할 수 있도록 해제
+    public void release(String key) {
+        processedKeys.invalidate(key);
+        processedEventRepository.deleteByEventKey(key);
+    }
+
+    @Scheduled(cron = "0 30 * * * ?")
+    public void deleteExpiredKeys() {
+        int deleted = processedEventRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) log.info("Deleted {} expired processed event keys", deleted);
+    }
+}
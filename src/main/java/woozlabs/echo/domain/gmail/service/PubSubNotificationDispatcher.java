@@ -0,0 +1,157 @@
+package woozlabs.echo.domain.gmail.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.gmail.dto.pubsub.PubSubMessage;
+import woozlabs.echo.domain.gmail.dto.pubsub.PubSubNotification;
+import woozlabs.echo.global.exception.CustomErrorException;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * webhook 은 notification 을 계정별 queue 에 넣고 바로 ack 하고,
+ * 실제 처리(history 조회, 메시지 조회, verification, FCM)는 worker 에서 재시도와 함께 수행한다.
+ * 같은 계정의 notification 은 한 번에 하나씩 처리하며, 처리 중에 들어온 notification 은
+ * 가장 큰 historyId 하나로 합쳐 다음 동기화에서 한 번에 처리한다.
+ * worker queue 가 가득 차면 false 를 반환해 Pub/Sub 이 나중에 다시 보내도록 한다.
+ * 이미 받은 Pub/Sub messageId 는 다시 처리하지 않고 바로 ack 한다.
+ * 실패한 동기화는 worker 를 sleep 시키지 않고 backoff 후 다시 제출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PubSubNotificationDispatcher {
+
+    private static final int MAX_DELIVERY_ATTEMPT = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MS = 1000L;
+
+    private final PubSubService pubSubService;
+    @Qualifier("pubSubExecutor")
+    private final Executor pubSubExecutor;
+    private final PubSubIdempotencyStore pubSubIdempotencyStore;
+    private final ConcurrentHashMap<String, AccountSyncState> syncStates = new ConcurrentHashMap<>();
+
+    public boolean dispatch(PubSubMessage pubSubMessage) {
+        if(pubSubMessage.getDeliveryAttempt() > MAX_DELIVERY_ATTEMPT){ // stop pub/sub alert(* case: failed to alert more than three times)
+            log.info("Exceed delivery attempt limit");
+            return true;
+        }
+        String messageKey = PubSubIdempotencyStore.pubSubMessageKey(pubSubMessage.getMessage().getMessageId());
+        if(!pubSubIdempotencyStore.tryAcquire(messageKey)){
+            log.info("Skip duplicated Pub/Sub delivery");
+            return true;
+        }
+        PubSubNotification notification;
+        try {
+            notification = pubSubService.decodeNotification(pubSubMessage);
+        } catch (Exception e) {
+            // 다시 받아도 파싱할 수 없으므로 ack
+            log.warn("Failed to decode Pub/Sub notification: {}", e.getMessage());
+            return true;
+        }
+        boolean accepted = enqueue(notification.getEmailAddress(), new BigInteger(notification.getHistoryId()));
+        if(!accepted) pubSubIdempotencyStore.release(messageKey); // 재전송 시 다시 처리
+        return accepted;
+    }
+
+    private boolean enqueue(String email, BigInteger historyId) {
+        while (true) {
+            AccountSyncState state = syncStates.computeIfAbsent(email, key -> new AccountSyncState());
+            synchronized (state) {
+                if (state.evicted) continue; // drain 이 방금 제거한 state, 새로 만든 state 에 넣는다
+                state.offer(historyId);
+                if (state.running) return true; // 진행 중인 동기화가 이어서 처리
+                state.running = true;
+            }
+            return submit(email, state);
+        }
+    }
+
+    private boolean submit(String email, AccountSyncState state) {
+        try {
+            pubSubExecutor.execute(() -> drain(email, state));
+            return true;
+        } catch (TaskRejectedException e) {
+            synchronized (state) {
+                state.running = false;
+            }
+            log.warn("Pub/Sub worker queue is full, account: {}", email);
+            return false;
+        }
+    }
+
+    private void drain(String email, AccountSyncState state) {
+        while (true) {
+            BigInteger targetHistoryId;
+            synchronized (state) {
+                targetHistoryId = state.pendingHistoryId;
+                state.pendingHistoryId = null;
+                if (targetHistoryId == null) {
+                    // 처리할 notification 이 없으면 계정 state 를 제거해 map 이 계속 커지지 않게 한다
+                    state.running = false;
+                    state.evicted = true;
+                    syncStates.remove(email, state);
+                    return;
+                }
+            }
+            if (!sync(email, state, targetHistoryId)) return; // 재시도 예약됨
+        }
+    }
+
+    // 재시도를 예약했으면 false, worker 는 기다리지 않고 반환한다
+    private boolean sync(String email, AccountSyncState state, BigInteger targetHistoryId) {
+        try {
+            pubSubService.syncHistory(email, targetHistoryId);
+            state.attempt = 0;
+            return true;
+        } catch (CustomErrorException e) {
+            if (e.getErrorCode().getStatus() < 500) {
+                // account, history 가 없는 경우 등은 재시도해도 같은 결과
+                log.warn("Drop Pub/Sub notification: {}", e.getMessage());
+                state.attempt = 0;
+                return true;
+            }
+            return !scheduleRetry(email, state, targetHistoryId, e);
+        } catch (Exception e) {
+            return !scheduleRetry(email, state, targetHistoryId, e);
+        }
+    }
+
+    private boolean scheduleRetry(String email, AccountSyncState state, BigInteger targetHistoryId, Exception cause) {
+        int attempt = ++state.attempt;
+        if (attempt >= MAX_ATTEMPTS) {
+            log.error("Failed to sync Gmail history after {} attempts, account: {}", attempt, email, cause);
+            state.attempt = 0;
+            return false;
+        }
+        long backoffMs = BASE_BACKOFF_MS << (attempt - 1);
+        log.warn("Retry Gmail history sync in {}ms (attempt {}), account: {}, cause: {}", backoffMs, attempt + 1, email, cause.getMessage());
+        synchronized (state) {
+            state.offer(targetHistoryId); // 그 사이 들어온 notification 과 합쳐 재시도
+        }
+        // backoff 동안 worker 를 잡지 않도록 지연 후 다시 제출, running 은 유지해 새 notification 은 재시도에 합쳐진다
+        CompletableFuture.delayedExecutor(backoffMs, TimeUnit.MILLISECONDS).execute(() -> submit(email, state));
+        return true;
+    }
+
+    private static class AccountSyncState {
+        private BigInteger pendingHistoryId;
+        private boolean running;
+        private boolean evicted;
+        private int attempt; // drain 중인 worker 만 접근
+
+        private void offer(BigInteger historyId) {
+            if (pendingHistoryId == null || historyId.compareTo(pendingHistoryId) > 0) {
+                pendingHistoryId = historyId;
+            }
+        }
+    }
+}
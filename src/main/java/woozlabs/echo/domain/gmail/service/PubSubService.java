@@ -1,24 +1,27 @@
 package woozlabs.echo.domain.gmail.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.gmail.Gmail;
 import com.google.api.services.gmail.model.*;
+import com.google.api.services.gmail.model.Message;
 import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.AccessToken;
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.firebase.messaging.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import woozlabs.echo.domain.gmail.dto.message.GmailMessageGetResponse;
 import woozlabs.echo.domain.gmail.dto.pubsub.*;
+import woozlabs.echo.domain.gmail.dto.template.ExtractVerificationInfo;
 import woozlabs.echo.domain.gmail.entity.PubSubHistory;
 import woozlabs.echo.domain.gmail.entity.VerificationEmail;
 import woozlabs.echo.domain.gmail.repository.PubSubHistoryRepository;
@@ -32,14 +35,21 @@ import woozlabs.echo.domain.member.repository.AccountRepository;
 import woozlabs.echo.global.constant.GlobalConstant;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static woozlabs.echo.global.constant.GlobalConstant.*;
+import static woozlabs.echo.global.utils.GlobalUtility.splitSenderData;
 
 @Slf4j
 @Service
@@ -53,7 +63,10 @@ public class PubSubService {
             "https://mail.google.com/"
 
     );
-    private final Long MAX_HISTORY_COUNT = 50L;
+    private final Long MAX_HISTORY_PAGE_SIZE = 500L;
+    private final int HYDRATION_BATCH_SIZE = 50;
+    private final String METADATA_FORMAT = "metadata";
+    private final List<String> METADATA_HEADERS = List.of("From", "Subject");
     private final String PUB_SUB_LABEL_ID = "INBOX";
     private final String DOMAIN_PATTERN = "(?i)^(https?://(?:www\\.)?[^/]+)";
     // injection & init
@@ -66,62 +79,174 @@ public class PubSubService {
     private final PubSubValidator pubSubValidator;
     private final GmailService gmailServiceImpl;
     private final GmailUtility gmailUtility;
+    private final FcmNotificationDispatcher fcmNotificationDispatcher;
+    private final PubSubIdempotencyStore pubSubIdempotencyStore;
+    private final GoogleAccessTokenProvider googleAccessTokenProvider;
+    @Qualifier("gmailHydrationExecutor")
+    private final Executor gmailHydrationExecutor;
 
-    @Transactional
-    public void handleFirebaseCloudMessage(PubSubMessage pubsubMessage) throws Exception {
+    public PubSubNotification decodeNotification(PubSubMessage pubsubMessage) throws IOException {
         String messageData = pubsubMessage.getMessage().getData();
         String decodedData = new String(java.util.Base64.getDecoder().decode(messageData));
-        PubSubNotification notification = om.readValue(decodedData, PubSubNotification.class);
-        String email = notification.getEmailAddress();
-        int deliveryAttempt = pubsubMessage.getDeliveryAttempt();
-        log.info(String.valueOf(deliveryAttempt));
-        if(deliveryAttempt > 2){ // stop pub/sub alert(* case: failed to alert more than three times)
-            log.info("Exceed delivery attempt limit");
-            return;
-        }
-        BigInteger newHistoryId = new BigInteger(notification.getHistoryId());
-        Account account = accountRepository.findByEmail(email).orElseThrow(
-                () -> new CustomErrorException(ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE, ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE.getMessage())
-        );
-        PubSubHistory pubSubHistory = pubSubHistoryRepository.findByAccount(account).orElseThrow(
+        return om.readValue(decodedData, PubSubNotification.class);
+    }
+
+    /**
+     * 저장된 cursor 부터 notifiedHistoryId 까지 history 를 동기화한다.
+     * worker 에서 계정별로 순서대로 호출되며, Gmail/LLM 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션을 걸지 않는다.
+     * cursor 는 처리가 끝난 뒤에만 앞으로 옮기므로, 처리 도중 서버가 죽어도 다음 notification 이 같은 구간을 다시 읽는다.
+     * 여러 서버가 같은 구간을 읽더라도 메시지 단위 중복은 PubSubIdempotencyStore 가 막는다.
+     */
+    public void syncHistory(String email, BigInteger notifiedHistoryId) throws Exception {
+        PubSubAccountContext context = PubSubAccountContext.fromRows(pubSubHistoryRepository.findAccountContextByEmail(email)).orElseThrow(
                 () -> new CustomErrorException(ErrorCode.NOT_FOUND_PUB_SUB_HISTORY_ERR, ErrorCode.NOT_FOUND_PUB_SUB_HISTORY_ERR.getMessage())
         );
+        Account account = context.getAccount();
+        PubSubHistory pubSubHistory = context.getPubSubHistory();
+        BigInteger startHistoryId = pubSubHistory.getHistoryId();
+        if(notifiedHistoryId.compareTo(startHistoryId) <= 0) return; // already synced
         Gmail gmailService = createGmailService(account.getAccessToken());
-        List<String> fcmTokens = fcmTokenRepository.findByAccount(account).stream().map(FcmToken::getFcmToken).toList();
-        List<MessageInHistoryData> getHistoryList = getHistoryListById(pubSubHistory, newHistoryId, gmailService);
-        if(getHistoryList.isEmpty()) return; // watch message
-        processForwardedMessage(getHistoryList);
-        // send multicast messages
+        List<MessageInHistoryData> getHistoryList = getHistoryListById(startHistoryId, notifiedHistoryId, gmailService);
+        if(!getHistoryList.isEmpty()){ // 비어 있으면 watch message
+            processForwardedMessage(getHistoryList);
+            sendHistoryMessages(account, context.getFcmTokens(), gmailService, getHistoryList);
+        }
+        if(pubSubHistoryRepository.advanceHistoryId(pubSubHistory.getId(), notifiedHistoryId) == 0){
+            log.info("History cursor is already advanced by another worker");
+        }
+    }
+
+    private void sendHistoryMessages(Account account, List<String> fcmTokens, Gmail gmailService, List<MessageInHistoryData> getHistoryList) {
+        // 이미 처리한 추가/삭제는 Gmail, LLM, FCM 호출 없이 건너뜀
+        Map<MessageInHistoryData, String> pendingKeys = new HashMap<>();
+        Set<String> claimedKeys = new HashSet<>(); // 같은 history 목록 안의 중복 key 확인용
+        List<MessageInHistoryData> targets = new ArrayList<>();
         for(MessageInHistoryData historyData : getHistoryList){
-            try{
-                // get detailed message info
-                GmailMessageGetResponse gmailMessage = gmailServiceImpl.getUserEmailMessage(account.getAccessToken(), historyData.getId());
-                HistoryType historyType = historyData.getHistoryType();
-                String from = historyType.equals(HistoryType.MESSAGE_DELETED) ?
-                        DELETED_MESSAGE_ALERT_MSG :
-                        gmailMessage.getFrom().getEmail();
-                String subject = historyType.equals(HistoryType.MESSAGE_DELETED) ?
-                        DELETED_MESSAGE_ALERT_MSG :
-                        gmailMessage.getSubject();
-                Map<String, String> data = new HashMap<>();
-                createMessageData(historyData, data, gmailMessage, account);
-                // create firebase message
-                MulticastMessage message = MulticastMessage.builder()
-                        .setNotification(Notification.builder()
-                                .setTitle(from)
-                                .setBody(subject)
-                                .build()
-                        )
-                        .putAllData(data)
-                        .addAllTokens(fcmTokens)
-                        .build();
-                FirebaseMessaging.getInstance().sendEachForMulticastAsync(message);
-            } catch (Exception e) {
-                throw new CustomErrorException(ErrorCode.FAILED_TO_GET_GMAIL_CONNECTION_REQUEST, ErrorCode.FAILED_TO_GET_GMAIL_CONNECTION_REQUEST.getMessage());
+            HistoryType historyType = historyData.getHistoryType();
+            if(historyType.equals(HistoryType.MESSAGE_ADDED) || historyType.equals(HistoryType.MESSAGE_DELETED)){
+                String key = PubSubIdempotencyStore.historyKey(account.getId(), historyData.getId(), historyType);
+                if(claimedKeys.contains(key) || !pubSubIdempotencyStore.tryAcquire(key)) continue;
+                claimedKeys.add(key);
+                pendingKeys.put(historyData, key);
             }
+            targets.add(historyData);
+        }
+        try{
+            // 삭제/라벨 변경은 조회할 필요가 없으므로 추가된 메시지만 metadata 로 조회
+            List<String> addedMessageIds = targets.stream()
+                    .filter(historyData -> historyData.getHistoryType().equals(HistoryType.MESSAGE_ADDED))
+                    .map(MessageInHistoryData::getId)
+                    .distinct()
+                    .toList();
+            Map<String, Message> addedMessages = hydrateMessageMetadata(gmailService, addedMessageIds);
+            // 계정별로 모아서 전송하도록 dispatcher 에 전달
+            for(MessageInHistoryData historyData : targets){
+                sendHistoryMessage(account, fcmTokens, addedMessages, historyData);
+                pendingKeys.remove(historyData);
+            }
+        }catch (RuntimeException e){
+            pendingKeys.values().forEach(pubSubIdempotencyStore::release);
+            throw e;
         }
     }
 
+    private void sendHistoryMessage(Account account, List<String> fcmTokens, Map<String, Message> addedMessages, MessageInHistoryData historyData) {
+        try{
+            HistoryType historyType = historyData.getHistoryType();
+            Map<String, String> data = new HashMap<>();
+            FcmNotification.FcmNotificationBuilder notificationBuilder = FcmNotification.builder()
+                    .messageId(historyData.getId())
+                    .threadId(historyData.getThreadId())
+                    .historyType(historyType);
+            if(historyType.equals(HistoryType.MESSAGE_ADDED)){
+                Message metadata = addedMessages.get(historyData.getId());
+                if(metadata == null) return; // 조회 전에 삭제된 메시지
+                ExtractVerificationInfo verification = getVerificationIfNeeded(account, metadata);
+                createMessageData(historyData, data, verification, account);
+                notificationBuilder
+                        .title(getMetadataHeader(metadata, MESSAGE_PAYLOAD_HEADER_FROM_KEY)
+                                .map(sender -> splitSenderData(sender).get(1))
+                                .orElse(""))
+                        .body(getMetadataHeader(metadata, MESSAGE_PAYLOAD_HEADER_SUBJECT_KEY).orElse(""))
+                        .verification(Boolean.TRUE.equals(verification.getVerification()));
+            }else if(historyType.equals(HistoryType.MESSAGE_DELETED)){
+                createMessageData(historyData, data, null, account);
+                notificationBuilder
+                        .title(DELETED_MESSAGE_ALERT_MSG)
+                        .body(DELETED_MESSAGE_ALERT_MSG);
+            }else{
+                // 라벨 변경은 화면 표시 없이 data 만 전달
+                createMessageData(historyData, data, null, account);
+            }
+            fcmNotificationDispatcher.enqueue(account, fcmTokens, notificationBuilder.data(data).build());
+        } catch (Exception e) {
+            throw new CustomErrorException(ErrorCode.FAILED_TO_GET_GMAIL_CONNECTION_REQUEST, ErrorCode.FAILED_TO_GET_GMAIL_CONNECTION_REQUEST.getMessage());
+        }
+    }
+
+    /**
+     * format=metadata 로 From/Subject 만 batch 요청(최대 HYDRATION_BATCH_SIZE 개씩)으로 조회하고,
+     * batch 들은 gmailHydrationExecutor 에서 제한된 개수만 병렬로 실행한다.
+     */
+    private Map<String, Message> hydrateMessageMetadata(Gmail gmailService, List<String> messageIds) {
+        Map<String, Message> hydrated = new ConcurrentHashMap<>();
+        if(messageIds.isEmpty()) return hydrated;
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for(int start = 0; start < messageIds.size(); start += HYDRATION_BATCH_SIZE){
+            List<String> batchIds = messageIds.subList(start, Math.min(messageIds.size(), start + HYDRATION_BATCH_SIZE));
+            batches.add(CompletableFuture.runAsync(() -> executeMetadataBatch(gmailService, batchIds, hydrated), gmailHydrationExecutor));
+        }
+        try{
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+        }catch (CompletionException e){
+            throw new CustomErrorException(ErrorCode.REQUEST_GMAIL_USER_MESSAGES_GET_API_ERROR_MESSAGE, e.getMessage());
+        }
+        return hydrated;
+    }
+
+    private void executeMetadataBatch(Gmail gmailService, List<String> messageIds, Map<String, Message> hydrated) {
+        try{
+            BatchRequest batchRequest = gmailService.batch();
+            JsonBatchCallback<Message> callback = new JsonBatchCallback<>() {
+                @Override
+                public void onSuccess(Message message, HttpHeaders responseHeaders) {
+                    hydrated.put(message.getId(), message);
+                }
+
+                @Override
+                public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                    // 404: history 조회 이후 삭제된 메시지
+                    log.warn("Failed to get message metadata: {}", error.getMessage());
+                }
+            };
+            for(String messageId : messageIds){
+                gmailService.users().messages().get(USER_ID, messageId)
+                        .setFormat(METADATA_FORMAT)
+                        .setMetadataHeaders(METADATA_HEADERS)
+                        .queue(batchRequest, callback);
+            }
+            batchRequest.execute();
+        }catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<String> getMetadataHeader(Message metadata, String headerName) {
+        if(metadata.getPayload() == null || metadata.getPayload().getHeaders() == null) return Optional.empty();
+        return metadata.getPayload().getHeaders().stream()
+                .filter(header -> header.getName().equalsIgnoreCase(headerName))
+                .map(MessagePartHeader::getValue)
+                .findFirst();
+    }
+
+    // 제목/미리보기에 verification 키워드가 있는 메시지만 본문까지 조회
+    private ExtractVerificationInfo getVerificationIfNeeded(Account account, Message metadata) {
+        String preview = getMetadataHeader(metadata, MESSAGE_PAYLOAD_HEADER_SUBJECT_KEY).orElse("") + " " +
+                Objects.requireNonNullElse(metadata.getSnippet(), "");
+        if(!gmailUtility.containsVerificationKeyword(preview)) return new ExtractVerificationInfo();
+        return gmailServiceImpl.getUserEmailMessage(account.getAccessToken(), metadata.getId()).getVerification();
+    }
+
     private static void processForwardedMessage(List<MessageInHistoryData> getHistoryList) {
         // process forwarded email
         if(getHistoryList.size() == 3){
@@ -156,17 +281,27 @@ public class PubSubService {
         return new FcmTokenResponse(existFcmToken.getId());
     }
 
-    private List<MessageInHistoryData> getHistoryListById(PubSubHistory pubSubHistory, BigInteger newHistoryId, Gmail gmailService) throws IOException {
-        BigInteger historyId = pubSubHistory.getHistoryId();
-        ListHistoryResponse historyResponse = gmailService.users().history()
-                .list(USER_ID)
-                .setStartHistoryId(historyId)
-                .setLabelId(PUB_SUB_LABEL_ID)
-                .setMaxResults(MAX_HISTORY_COUNT)
-                .execute();
-        List<History> histories = historyResponse.getHistory();
+    // (historyId, untilHistoryId] 구간의 history 를 nextPageToken 을 따라 모두 조회
+    private List<MessageInHistoryData> getHistoryListById(BigInteger historyId, BigInteger untilHistoryId, Gmail gmailService) throws IOException {
+        List<History> histories = new ArrayList<>();
+        String pageToken = null;
+        do{
+            ListHistoryResponse historyResponse = gmailService.users().history()
+                    .list(USER_ID)
+                    .setStartHistoryId(historyId)
+                    .setLabelId(PUB_SUB_LABEL_ID)
+                    .setMaxResults(MAX_HISTORY_PAGE_SIZE)
+                    .setPageToken(pageToken)
+                    .execute();
+            if(historyResponse.getHistory() != null){
+                // 이후 구간은 다음 notification 에서 처리
+                historyResponse.getHistory().stream()
+                        .filter(history -> history.getId().compareTo(untilHistoryId) <= 0)
+                        .forEach(histories::add);
+            }
+            pageToken = historyResponse.getNextPageToken();
+        }while(pageToken != null);
         List<MessageInHistoryData> historyDataList = new ArrayList<>();
-        if(histories == null) return historyDataList;
         for(History history : histories){
             // add addedMessages
             historyDataList.addAll(history.getMessagesAdded() != null
@@ -186,7 +321,6 @@ public class PubSubService {
                     (message) -> MessageInHistoryData.toMessageInHistoryData(message.getMessage(), HistoryType.LABEL_REMOVED, message.getLabelIds())).toList()
                     : Collections.emptyList());
         }
-        pubSubHistory.updateHistoryId(newHistoryId);
         return historyDataList;
     }
 
@@ -199,15 +333,10 @@ public class PubSubService {
     }
 
     private HttpRequestInitializer createCredentialWithAccessToken(String accessToken){
-        AccessToken token = AccessToken.newBuilder()
-                .setTokenValue(accessToken)
-                .setScopes(SCOPES)
-                .build();
-        GoogleCredentials googleCredentials = GoogleCredentials.create(token);
-        return new HttpCredentialsAdapter(googleCredentials);
+        return new HttpCredentialsAdapter(googleAccessTokenProvider.createCredentials(accessToken, SCOPES));
     }
 
-    private void createMessageData(MessageInHistoryData historyData, Map<String, String> data, GmailMessageGetResponse gmailMessage, Account owner) throws IOException {
+    private void createMessageData(MessageInHistoryData historyData, Map<String, String> data, ExtractVerificationInfo verification, Account owner) throws IOException {
         String fcmMsgIdKey = "id";
         String fcmMsgThreadIdKey = "threadId";
         String fcmMsgTypeKey = "type";
@@ -224,26 +353,26 @@ public class PubSubService {
         data.put(fcmMsgAccountUidKey, owner.getUid());
         if(historyType.equals(HistoryType.MESSAGE_ADDED)){
             // set verification data
-            Boolean isVerification = gmailMessage.getVerification().getVerification();
+            Boolean isVerification = verification.getVerification();
             data.put(fcmMsgVerificationKey, isVerification.toString());
             // process verification label
             if(isVerification.equals(Boolean.TRUE)){
-                getOrCreateLabel(owner.getAccessToken(), gmailMessage);
+                getOrCreateLabel(owner.getAccessToken(), historyData.getId());
                 VerificationEmail verificationEmail = VerificationEmail.builder()
                         .threadId(historyData.getThreadId())
                         .messageId(historyData.getId())
-                        .codes(String.join(",",gmailMessage.getVerification().getCodes()))
-                        .links(String.join(",",gmailMessage.getVerification().getLinks()))
+                        .codes(String.join(",",verification.getCodes()))
+                        .links(String.join(",",verification.getLinks()))
                         .account(owner)
                         .build();
-                if(!gmailMessage.getVerification().getLinks().isEmpty()){ // save shortened link
+                if(!verification.getLinks().isEmpty()){ // save shortened link
                     String linkId = UUID.randomUUID().toString();
                     data.put(fcmMsgLinkIdKey, linkId);
                     data.put(fcmMsgCodeKey, "");
                     verificationEmail.setUuid(linkId);
                     verificationEmailRepository.save(verificationEmail);
                 }else{
-                    String code = gmailMessage.getVerification().getCodes().get(0);
+                    String code = verification.getCodes().get(0);
                     data.put(fcmMsgLinkIdKey, "");
                     data.put(fcmMsgCodeKey, code);
                 }
@@ -270,13 +399,13 @@ public class PubSubService {
                 .build();
     }
 
-    private void getOrCreateLabel(String accessToken, GmailMessageGetResponse gmailMessageGetResponse) throws IOException {
+    private void getOrCreateLabel(String accessToken, String messageId) throws IOException {
         // find echo verification label
         Gmail gmailService = gmailUtility.createGmailService(accessToken);
         ListLabelsResponse listLabelsResponse = gmailService.users().labels().list(USER_ID).execute();
         for(Label label : listLabelsResponse.getLabels()){
             if(label.getName().equals(PARENT_VERIFICATION_LABEL + "/" + CHILD_VERIFICATION_LABEL)){
-                applyLabel(accessToken, gmailMessageGetResponse.getId(), label.getId());
+                applyLabel(accessToken, messageId, label.getId());
                 return;
             }
         }
@@ -295,7 +424,7 @@ public class PubSubService {
                     .setLabelListVisibility("labelShow")
                     .setMessageListVisibility("show");
             gmailService.users().labels().create(USER_ID, childLabel).execute();
-            applyLabel(accessToken, gmailMessageGetResponse.getId(), childLabel.getId());
+            applyLabel(accessToken, messageId, childLabel.getId());
         }
     }
 
@@ -10,8 +10,7 @@ import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.gmail.Gmail;
 import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.AccessToken;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.OAuth2Credentials;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -29,9 +28,11 @@ import woozlabs.echo.domain.gmail.dto.template.ExtractVerificationInfo;
 import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.domain.member.entity.MemberAccount;
 import woozlabs.echo.domain.member.repository.query.MemberAccountQueryRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
 import woozlabs.echo.global.constant.GlobalConstant;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -49,6 +50,8 @@ public class GmailUtility {
     private final ObjectMapper om;
     private final ChatGptService chatGptService;
     private final MemberAccountQueryRepository memberAccountQueryRepository;
+    private final GoogleAccessTokenProvider googleAccessTokenProvider;
+    private final AccountContextCache accountContextCache;
     private final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
     private List<String> keywords;
     private final List<String> SCOPES = Arrays.asList(
@@ -69,10 +72,7 @@ public class GmailUtility {
 
     public String getActiveAccountAccessToken(HttpServletRequest request, String aAUid){
         String uid = (String) request.getAttribute(GlobalConstant.FIREBASE_UID_KEY);
-        MemberAccount memberAccount = memberAccountQueryRepository.findByMemberUidAndAccountUid(uid, aAUid)
-                .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_MEMBER_ACCOUNT));
-        Account account = memberAccount.getAccount();
-        return account.getAccessToken();
+        return accountContextCache.get(uid, aAUid).getAccessToken();
     }
 
     public Account getActiveAccount(HttpServletRequest request, String aAUid){
@@ -84,9 +84,7 @@ public class GmailUtility {
 
     public String getActiveAccountUid(HttpServletRequest request, String aAUid){
         String uid = (String) request.getAttribute(GlobalConstant.FIREBASE_UID_KEY);
-        MemberAccount memberAccount = memberAccountQueryRepository.findByMemberUidAndAccountUid(uid, aAUid)
-                .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_MEMBER_ACCOUNT));
-        return memberAccount.getAccount().getUid();
+        return accountContextCache.get(uid, aAUid).getUid();
     }
 
     public ExtractVerificationInfo extractVerification(String rawContent){
@@ -148,12 +146,8 @@ public class GmailUtility {
     }
 
     private HttpRequestInitializer createCredentialWithAccessToken(String accessToken) {
-        AccessToken token = AccessToken.newBuilder()
-                .setTokenValue(accessToken)
-                .setScopes(SCOPES)
-                .build();
-
-        GoogleCredentials googleCredentials = GoogleCredentials.create(token);
+        // 401 이면 token 을 갱신하고 요청을 다시 보냄
+        OAuth2Credentials googleCredentials = googleAccessTokenProvider.createCredentials(accessToken, SCOPES);
 
         return httpRequest -> {
             new HttpCredentialsAdapter(googleCredentials).initialize(httpRequest);
@@ -236,6 +230,16 @@ public class GmailUtility {
         return links;
     }
 
+    public boolean containsVerificationKeyword(String text){
+        String lowerText = text.toLowerCase();
+        for(String keyword : keywords){
+            if(lowerText.contains(keyword)){
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isVerificationEmail(String decodedContent){
         Document doc = Jsoup.parse(decodedContent, "UTF-8");
         String bodyText = doc.body().text().toLowerCase();
@@ -0,0 +1,18 @@
+package woozlabs.echo.domain.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import woozlabs.echo.domain.member.entity.Account;
+
+@Getter
+@AllArgsConstructor
+public class AccountContext {
+    private final Long accountId;
+    private final String uid;
+    private final String email;
+    private final String accessToken;
+
+    public static AccountContext from(Account account) {
+        return new AccountContext(account.getId(), account.getUid(), account.getEmail(), account.getAccessToken());
+    }
+}
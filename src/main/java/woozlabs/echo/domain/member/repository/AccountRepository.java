@@ -6,9 +6,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import woozlabs.echo.domain.member.entity.Account;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,18 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByEmail(String email);
 
+    Optional<Account> findByAccessToken(String accessToken);
+
+    @Query("SELECT a.email FROM Account a WHERE a.email IN :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Account a SET a.accessToken = :accessToken, a.accessTokenFetchedAt = :fetchedAt WHERE a.id = :id")
+    int updateAccessToken(@Param("id") Long id,
+                          @Param("accessToken") String accessToken,
+                          @Param("fetchedAt") LocalDateTime fetchedAt);
+
     @Query("SELECT a FROM Account a WHERE a.accessTokenFetchedAt <= :cutoffTime")
     Page<Account> findByAccessTokenFetchedAtBefore(@Param("cutoffTime") LocalDateTime cutoffTime, Pageable pageable);
 
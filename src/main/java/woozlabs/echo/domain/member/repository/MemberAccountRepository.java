@@ -15,11 +15,17 @@ public interface MemberAccountRepository extends JpaRepository<MemberAccount, Lo
 
     Optional<MemberAccount> findByMemberAndAccount(Member member, Account account);
 
-    List<MemberAccount> findByAccount(Account account);
+    @Query("SELECT ma FROM MemberAccount ma JOIN FETCH ma.member WHERE ma.account = :account")
+    List<MemberAccount> findByAccount(@Param("account") Account account);
 
-    @Query("SELECT ma.account FROM MemberAccount ma WHERE ma.member = :member")
+    // Account.sidebarConfig 는 mappedBy OneToOne 이라 lazy 가 적용되지 않아 같이 조회
+    @Query("SELECT a FROM MemberAccount ma JOIN ma.account a LEFT JOIN FETCH a.sidebarConfig WHERE ma.member = :member")
     List<Account> findAllAccountsByMember(@Param("member") Member member);
 
+    // (memberId, accountUid)
+    @Query("SELECT ma.member.id, ma.account.uid FROM MemberAccount ma WHERE ma.member.id IN :memberIds")
+    List<Object[]> findMemberIdAndAccountUidByMemberIds(@Param("memberIds") List<Long> memberIds);
+
     @Modifying
     @Query(value = "DELETE FROM member_account WHERE member_id IN :memberIds", nativeQuery = true)
     int bulkDeleteByMemberIds(@Param("memberIds") List<Long> memberIds);
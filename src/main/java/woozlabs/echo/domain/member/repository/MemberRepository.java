@@ -1,5 +1,6 @@
 package woozlabs.echo.domain.member.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,8 +13,9 @@ import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
-    @Query("SELECT m.id FROM Member m WHERE m.deletedAt < :date")
-    List<Long> findExpiredMemberIds(@Param("date") LocalDateTime date);
+    // 삭제하지 못하고 남긴 member 를 같은 실행에서 다시 읽지 않도록 id 기준으로 이어서 조회
+    @Query("SELECT m.id FROM Member m WHERE m.deletedAt < :date AND m.id > :afterId ORDER BY m.id")
+    List<Long> findExpiredMemberIds(@Param("date") LocalDateTime date, @Param("afterId") Long afterId, Pageable pageable);
 
     Optional<Member> findByPrimaryUid(String primaryUid);
 
@@ -1,6 +1,7 @@
 package woozlabs.echo.domain.member.repository.query;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import woozlabs.echo.domain.member.entity.MemberAccount;
@@ -23,14 +24,17 @@ public class MemberAccountQueryRepository {
                     .setParameter("accountUid", accountUid)
                     .getSingleResult();
             return Optional.of(memberAccount);
-        }catch (Exception e){
+        }catch (NoResultException e){
+            // DB 오류는 연결이 없는 것으로 처리하지 않음
             return Optional.empty();
         }
     }
 
+    // Account.sidebarConfig 는 mappedBy OneToOne 이라 lazy 가 적용되지 않아 같이 조회
     public List<MemberAccount> findByMemberPrimaryUid(String uid){
         String jpql = "select ma from MemberAccount ma" +
-                " join fetch ma.account" +
+                " join fetch ma.account a" +
+                " left join fetch a.sidebarConfig" +
                 " where ma.member.primaryUid = :uid";
         return em.createQuery(jpql, MemberAccount.class)
                 .setParameter("uid", uid)
@@ -0,0 +1,119 @@
+package woozlabs.echo.domain.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woozlabs.echo.domain.member.dto.AccountContext;
+import woozlabs.echo.domain.member.entity.MemberAccount;
+import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.domain.member.repository.query.MemberAccountQueryRepository;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요청마다 (primaryUid, aAUid) 로 member-account join 을 조회하지 않도록 메모리에 보관한다.
+ * 연결 여부(primaryUid:aAUid -> accountId)와 계정 정보(accountId -> AccountContext)를 나눠서
+ * token 갱신은 계정 하나만, unlink 는 연결 하나만 지우면 되게 한다.
+ * 다른 서버에서 갱신된 token 은 TTL 이 지나야 반영되지만, 이전 access token 도 발급 후 1시간 동안
+ * 유효하고 갱신은 만료 10분 전에 하므로 TTL(5분) 동안은 이전 token 을 써도 된다.
+ * unlink/member 삭제는 처리한 서버에서만 바로 지워지고, 다른 서버에서는 연결 TTL(1분) 동안
+ * 이전 연결로 요청이 허용될 수 있다. 계정 삭제는 계정 정보가 다시 조회될 때(최대 5분) 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountContextCache {
+
+    private static final Duration ACCOUNT_TTL = Duration.ofMinutes(5);
+    private static final Duration MEMBERSHIP_TTL = Duration.ofMinutes(1);
+    private static final long MAX_SIZE = 10_000;
+
+    private final MemberAccountQueryRepository memberAccountQueryRepository;
+    private final AccountRepository accountRepository;
+    private final Cache<String, Long> memberships = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(MEMBERSHIP_TTL)
+            .build();
+    private final Cache<Long, AccountContext> accounts = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(ACCOUNT_TTL)
+            .build();
+
+    public AccountContext get(String primaryUid, String aAUid) {
+        Long accountId = memberships.get(toKey(primaryUid, aAUid), key -> loadMembership(primaryUid, aAUid));
+        if (accountId == null) throw new CustomErrorException(ErrorCode.NOT_FOUND_MEMBER_ACCOUNT);
+        AccountContext context = accounts.get(accountId, id -> accountRepository.findById(id)
+                .map(AccountContext::from)
+                .orElse(null));
+        if (context == null) {
+            // 연결은 캐시에 남아 있지만 계정이 삭제됨
+            memberships.invalidate(toKey(primaryUid, aAUid));
+            throw new CustomErrorException(ErrorCode.NOT_FOUND_MEMBER_ACCOUNT);
+        }
+        return context;
+    }
+
+    // 없는 연결은 캐시하지 않음 (연결 직후 요청이 계속 실패하지 않도록)
+    private Long loadMembership(String primaryUid, String aAUid) {
+        return memberAccountQueryRepository.findByMemberUidAndAccountUid(primaryUid, aAUid)
+                .map(MemberAccount::getAccount)
+                .map(account -> {
+                    accounts.put(account.getId(), AccountContext.from(account));
+                    return account.getId();
+                })
+                .orElse(null);
+    }
+
+    // token 갱신, 만료, 계정 삭제
+    public void evictAccount(Long accountId) {
+        if (accountId == null) return;
+        evict(() -> accounts.invalidate(accountId));
+    }
+
+    public void evictAccounts(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(accountIds);
+        evict(() -> accounts.invalidateAll(ids));
+    }
+
+    // unlink
+    public void evictMembership(String primaryUid, String aAUid) {
+        evict(() -> memberships.invalidate(toKey(primaryUid, aAUid)));
+    }
+
+    // member 삭제, 드물게 일어나므로 전체를 훑음
+    public void evictMember(String primaryUid) {
+        String prefix = primaryUid + ":";
+        evict(() -> memberships.asMap().keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    // 여러 member 를 한 번에 정리하는 batch 이후
+    public void evictAll() {
+        evict(() -> {
+            memberships.invalidateAll();
+            accounts.invalidateAll();
+        });
+    }
+
+    // commit 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 commit 후에 한 번 더 지움
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private static String toKey(String primaryUid, String aAUid) {
+        return primaryUid + ":" + aAUid;
+    }
+}
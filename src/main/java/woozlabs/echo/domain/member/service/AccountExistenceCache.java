@@ -0,0 +1,66 @@
+package woozlabs.echo.domain.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import woozlabs.echo.domain.member.repository.AccountRepository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 공유 메일 초대 대상 email 이 가입된 계정인지 보관한다.
+ * 캐시에 없는 email 들은 findEmailsByEmailIn 한 번으로 조회하고, 새 계정이 생기면 evict 로 바로 반영한다.
+ * email 은 소문자로 바꾼 값을 key 로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountExistenceCache {
+
+    private final AccountRepository accountRepository;
+    private final Cache<String, Boolean> existingEmails = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    // 반환하는 set 에는 가입된 email 을 전달받은 표기 그대로 담는다
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) return Collections.emptySet();
+        Set<String> keys = new HashSet<>();
+        emails.forEach(email -> keys.add(toKey(email)));
+        Map<String, Boolean> found = existingEmails.getAll(keys, missingKeys -> {
+            Set<String> registered = new HashSet<>();
+            accountRepository.findEmailsByEmailIn(missingKeys).forEach(email -> registered.add(toKey(email)));
+            Map<String, Boolean> loaded = new HashMap<>();
+            missingKeys.forEach(key -> loaded.put(key, registered.contains(key)));
+            return loaded;
+        });
+        Set<String> result = new HashSet<>();
+        for (String email : emails) {
+            if (Boolean.TRUE.equals(found.get(toKey(email)))) result.add(email);
+        }
+        return result;
+    }
+
+    // 계정 생성 transaction 이 commit 되기 전에 다른 요청이 다시 false 를 채워 넣을 수 있으므로 commit 후에도 한 번 더 제거
+    public void evict(String email) {
+        if (email == null) return;
+        String key = toKey(email);
+        existingEmails.invalidate(key);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                existingEmails.invalidate(key);
+            }
+        });
+    }
+
+    // MySQL collation 과 같이 대소문자를 구분하지 않음
+    private static String toKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -14,8 +14,6 @@ import woozlabs.echo.domain.member.repository.MemberRepository;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -25,6 +23,7 @@ public class AccountService {
     private final AccountRepository accountRepository;
     private final MemberRepository memberRepository;
     private final MemberAccountRepository memberAccountRepository;
+    private final AccountContextCache accountContextCache;
 
     public AccountProfileResponseDto getProfileByField(String fieldType, String fieldValue) {
         Account account = fetchMemberByField(fieldType, fieldValue);
@@ -74,13 +73,6 @@ public class AccountService {
 
         log.info("Successfully unlinked accountUid: {} from primaryUid: {}", accountUid, primaryUid);
         memberAccountRepository.delete(memberAccount);
-    }
-
-    @Transactional
-    public void findAccountAndUpdateLastLogin(String aAUid) {
-        Account account = accountRepository.findByUid(aAUid)
-                .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE));
-
-        account.setLastLoginAt(LocalDateTime.now());
+        accountContextCache.evictMembership(primaryUid, accountUid);
     }
 }
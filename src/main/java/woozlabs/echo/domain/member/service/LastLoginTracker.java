@@ -0,0 +1,91 @@
+package woozlabs.echo.domain.member.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청에서는 계정별 마지막 접속 시각을 메모리에만 기록하고, flush-interval-ms 마다
+ * UPDATE ... CASE 한 번(FLUSH_BATCH_SIZE 개 단위)으로 모아서 저장한다.
+ * TokenExpireBatchJob 이 last_login_at 기준 10일로 token 을 만료시키므로 flush 주기는 MAX_FLUSH_INTERVAL 이하여야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginTracker {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final Duration MAX_FLUSH_INTERVAL = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    // account uid -> 마지막 접속 시각
+    private final ConcurrentHashMap<String, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+
+    @Value("${account.last-login.flush-interval-ms:60000}")
+    private long flushIntervalMs;
+
+    @PostConstruct
+    public void validateFlushInterval() {
+        if (flushIntervalMs <= 0 || flushIntervalMs > MAX_FLUSH_INTERVAL.toMillis()) {
+            throw new IllegalStateException("account.last-login.flush-interval-ms must be between 1 and " + MAX_FLUSH_INTERVAL.toMillis());
+        }
+    }
+
+    public void record(String accountUid) {
+        pendingLogins.merge(accountUid, LocalDateTime.now(), (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${account.last-login.flush-interval-ms:60000}")
+    public void flush() {
+        if (pendingLogins.isEmpty()) return;
+        List<Map.Entry<String, LocalDateTime>> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+        int flushed = 0;
+        for (Map.Entry<String, LocalDateTime> entry : pendingLogins.entrySet()) {
+            // flush 중에 다시 기록된 값은 남겨서 다음 주기에 저장
+            if (!pendingLogins.remove(entry.getKey(), entry.getValue())) continue;
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (batch.size() == FLUSH_BATCH_SIZE) {
+                flushed += update(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) flushed += update(batch);
+        log.debug("LastLoginTracker: Flushed {} last login times", flushed);
+    }
+
+    private int update(List<Map.Entry<String, LocalDateTime>> batch) {
+        StringBuilder sql = new StringBuilder("UPDATE account SET last_login_at = CASE uid");
+        List<Object> params = new ArrayList<>(batch.size() * 3);
+        for (Map.Entry<String, LocalDateTime> entry : batch) {
+            sql.append(" WHEN ? THEN ?");
+            params.add(entry.getKey());
+            params.add(Timestamp.valueOf(entry.getValue()));
+        }
+        sql.append(" END WHERE uid IN (").append(String.join(",", Collections.nCopies(batch.size(), "?"))).append(")");
+        batch.forEach(entry -> params.add(entry.getKey()));
+        try {
+            jdbcTemplate.update(sql.toString(), params.toArray());
+            return batch.size();
+        } catch (Exception e) {
+            log.error("LastLoginTracker: Failed to flush {} last login times, retry next interval", batch.size(), e);
+            batch.forEach(entry -> pendingLogins.merge(entry.getKey(), entry.getValue(),
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+            return 0;
+        }
+    }
+}
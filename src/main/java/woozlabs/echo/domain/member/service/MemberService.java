@@ -1,7 +1,7 @@
 package woozlabs.echo.domain.member.service;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,6 +33,7 @@ import woozlabs.echo.domain.member.repository.MemberAccountRepository;
 import woozlabs.echo.domain.member.repository.MemberRepository;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.scheduler.GmailWatchRenewalScheduler;
 import woozlabs.echo.global.utils.GoogleOAuthUtils;
 
 @Slf4j
@@ -41,11 +42,15 @@ import woozlabs.echo.global.utils.GoogleOAuthUtils;
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final Duration SCOPE_LOOKUP_TIMEOUT = Duration.ofSeconds(3);
+
     private final AccountRepository accountRepository;
     private final MemberRepository memberRepository;
     private final MemberAccountRepository memberAccountRepository;
     private final FirebaseUtils firebaseUtils;
     private final GoogleOAuthUtils googleOAuthUtils;
+    private final AccountContextCache accountContextCache;
+    private final GmailWatchRenewalScheduler gmailWatchRenewalScheduler;
 
     @Transactional
     public void updatePreference(String primaryUid, UpdatePreferenceRequestDto updatePreferenceRequest) {
@@ -108,6 +113,7 @@ public class MemberService {
                 .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_MEMBER));
 
         member.setDeletedAt(LocalDateTime.now());
+        accountContextCache.evictMember(primaryUid);
         log.info("Successfully soft deleted member with UID: {}", primaryUid);
     }
 
@@ -133,15 +139,20 @@ public class MemberService {
         memberAccountRepository.deleteAll(memberAccountsToDelete);
         memberRepository.delete(member);
 
-        for (Account account : accountsToDelete) {
-            try {
-                FirebaseAuth.getInstance().deleteUser(account.getUid());
-            } catch (FirebaseAuthException e) {
-                throw new CustomErrorException(ErrorCode.FIREBASE_ACCOUNT_DELETION_ERROR, e.getMessage());
+        // 실패하면 rollback 되고, 다시 요청하면 이미 삭제된 Firebase user 는 성공으로 처리됨
+        try {
+            List<String> failedUids = firebaseUtils.deleteUsers(accountsToDelete.stream().map(Account::getUid).toList());
+            if (!failedUids.isEmpty()) {
+                throw new CustomErrorException(ErrorCode.FIREBASE_ACCOUNT_DELETION_ERROR, "Failed to delete Firebase accounts: " + failedUids);
             }
+        } catch (FirebaseAuthException e) {
+            throw new CustomErrorException(ErrorCode.FIREBASE_ACCOUNT_DELETION_ERROR, e.getMessage());
         }
 
+        gmailWatchRenewalScheduler.unregisterAccounts(accountsToDelete.stream().map(Account::getUid).toList());
         accountRepository.deleteAll(accountsToDelete);
+        accountContextCache.evictMember(primaryUid);
+        accountContextCache.evictAccounts(accountsToDelete.stream().map(Account::getId).toList());
 
         log.info("Successfully deleted member with UID: {}", primaryUid);
     }
@@ -176,16 +187,17 @@ public class MemberService {
                     .updatedAt(firstMember.getUpdatedAt())
                     .build();
 
+            Map<String, List<String>> grantedScopes = googleOAuthUtils.getGrantedScopes(
+                    accounts.stream().map(Account::getAccessToken).toList(), SCOPE_LOOKUP_TIMEOUT);
             List<GetPrimaryAccountResponseDto.AccountDto> accountDtos = accounts.stream()
                     .map(account -> {
-                        List<String> grantedScopes = googleOAuthUtils.getGrantedScopes(account.getAccessToken());
                         return GetPrimaryAccountResponseDto.AccountDto.builder()
                                 .uid(account.getUid())
                                 .email(account.getEmail())
                                 .displayName(account.getDisplayName())
                                 .profileImageUrl(account.getProfileImageUrl())
                                 .provider(account.getProvider())
-                                .scopes(grantedScopes)
+                                .scopes(grantedScopes.get(account.getAccessToken()))
                                 .build();
                     })
                     .collect(Collectors.toList());
@@ -216,7 +228,8 @@ public class MemberService {
                     .displayName(currentAccount.getDisplayName())
                     .profileImageUrl(currentAccount.getProfileImageUrl())
                     .provider(currentAccount.getProvider())
-                    .scopes(googleOAuthUtils.getGrantedScopes(currentAccount.getAccessToken()))
+                    .scopes(googleOAuthUtils.getGrantedScopes(Collections.singletonList(currentAccount.getAccessToken()), SCOPE_LOOKUP_TIMEOUT)
+                            .get(currentAccount.getAccessToken()))
                     .build();
 
             List<GetAccountResponseDto.RelatedMemberDto> relatedMembers = memberAccounts.stream()
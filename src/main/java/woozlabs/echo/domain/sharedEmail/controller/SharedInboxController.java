@@ -2,12 +2,17 @@ package woozlabs.echo.domain.sharedEmail.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import woozlabs.echo.domain.sharedEmail.dto.*;
 import woozlabs.echo.domain.sharedEmail.service.SharedInboxService;
 import woozlabs.echo.global.constant.GlobalConstant;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -17,6 +22,9 @@ public class SharedInboxController {
 
     private final SharedInboxService sharedInboxService;
 
+    @Value("${shared-email.snapshot.revalidate-seconds:30}")
+    private long snapshotRevalidateSeconds;
+
     @PostMapping("/public-share/create")
     public ResponseEntity<SharedEmailResponseDto> createSharePost(@RequestParam("aAUid") String activeAccountUid,
                                                                   @RequestBody CreateSharedRequestDto createSharedRequestDto) {
@@ -40,12 +48,28 @@ public class SharedInboxController {
         return ResponseEntity.ok(updatedSharedEmail);
     }
 
+    @GetMapping("/shared-with-me")
+    public ResponseEntity<List<SharedEmailResponseDto>> getSharedWithMe(@RequestParam("aAUid") String activeAccountUid) {
+        List<SharedEmailResponseDto> responseDto = sharedInboxService.getSharedWithMe(activeAccountUid);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @GetMapping("/public-share/{sharedEmailId}")
     public ResponseEntity<GetSharedEmailResponseDto> getSharedEmail(HttpServletRequest httpServletRequest,
                                                                     @PathVariable("sharedEmailId") UUID sharedEmailId) {
         String uid = (String) httpServletRequest.getAttribute(GlobalConstant.FIREBASE_UID_KEY);
         GetSharedEmailResponseDto responseDto = sharedInboxService.getSharedEmail(uid, sharedEmailId);
-        return ResponseEntity.ok(responseDto);
+        // 로그인하지 않은 공개 링크만 CDN 에서 캐시, If-None-Match 가 같으면 304
+        CacheControl cacheControl = uid == null
+                ? CacheControl.maxAge(Duration.ofSeconds(snapshotRevalidateSeconds)).cachePublic()
+                : CacheControl.noCache().cachePrivate();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION);
+        if (responseDto.getEtag() != null) {
+            response.eTag(responseDto.getEtag());
+        }
+        return response.body(responseDto);
     }
 
     @PostMapping("/public-share/{sharedEmailId}/update-permissions")
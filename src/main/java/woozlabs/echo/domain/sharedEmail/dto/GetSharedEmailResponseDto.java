@@ -1,5 +1,6 @@
 package woozlabs.echo.domain.sharedEmail.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import woozlabs.echo.domain.sharedEmail.entity.Permission;
 import woozlabs.echo.domain.sharedEmail.entity.SharedDataType;
@@ -20,4 +21,6 @@ public class GetSharedEmailResponseDto {
     private Boolean canViewToolMenu;
     private SharedDataType sharedDataType;
     private Map<String, Permission> inviteePermissions;
+    @JsonIgnore
+    private String etag; // 응답 header 용
 }
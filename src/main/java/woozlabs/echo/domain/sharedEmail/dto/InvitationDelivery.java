@@ -0,0 +1,31 @@
+package woozlabs.echo.domain.sharedEmail.dto;
+
+import lombok.Getter;
+
+// 수신자별 초대 메일 발송 결과 (재시도 횟수, 마지막 SES 상태)
+@Getter
+public class InvitationDelivery {
+
+    private final String email;
+    private final String invitationMemo;
+    private int attempts;
+    private String status;
+    private String messageId;
+    private String error;
+
+    public InvitationDelivery(String email, String invitationMemo) {
+        this.email = email;
+        this.invitationMemo = invitationMemo;
+    }
+
+    public void recordAttempt(String status, String messageId, String error) {
+        this.attempts++;
+        this.status = status;
+        this.messageId = messageId;
+        this.error = error;
+    }
+
+    public boolean isSent() {
+        return "Success".equals(status);
+    }
+}
@@ -7,9 +7,7 @@ import org.hibernate.annotations.UuidGenerator;
 import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.global.common.entity.BaseEntity;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 @Getter
 @Setter
@@ -38,10 +36,35 @@ public class SharedEmail extends BaseEntity {
     private boolean canEditorEditPermission;
     private boolean canViewerViewToolMenu;
 
-    @ElementCollection
-    @CollectionTable(name = "shared_email_invitee", joinColumns = @JoinColumn(name = "shared_email_id"))
-    @MapKeyColumn(name = "invitee_email")
-    @Column(name = "permission")
-    @Enumerated(EnumType.STRING)
-    private Map<String, Permission> inviteePermissions = new HashMap<>();
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @JsonIgnore
+    @OneToMany(mappedBy = "sharedEmail", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<SharedEmailInvitee> invitees = new ArrayList<>();
+
+    public Map<String, Permission> getInviteePermissions() {
+        Map<String, Permission> inviteePermissions = new HashMap<>();
+        invitees.forEach(invitee -> inviteePermissions.put(invitee.getInviteeEmail(), invitee.getPermission()));
+        return inviteePermissions;
+    }
+
+    // 없으면 추가, 권한이 바뀐 경우만 update
+    public void putInvitee(String email, Permission permission) {
+        Optional<SharedEmailInvitee> existing = findInvitee(email);
+        if (existing.isPresent()) {
+            if (existing.get().getPermission() != permission) existing.get().updatePermission(permission);
+            return;
+        }
+        invitees.add(new SharedEmailInvitee(this, email, permission));
+    }
+
+    public boolean removeInvitee(String email) {
+        return invitees.removeIf(invitee -> invitee.getInviteeEmail().equals(email));
+    }
+
+    public Optional<SharedEmailInvitee> findInvitee(String email) {
+        return invitees.stream()
+                .filter(invitee -> invitee.getInviteeEmail().equals(email))
+                .findFirst();
+    }
 }
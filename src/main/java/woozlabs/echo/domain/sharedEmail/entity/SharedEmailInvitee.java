@@ -0,0 +1,43 @@
+package woozlabs.echo.domain.sharedEmail.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공유 메일의 초대 대상 한 명, (shared_email_id, invitee_email) 이 key 라서 바뀐 row 만 insert/update/delete 된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "shared_email_invitee",
+        indexes = @Index(name = "idx_shared_email_invitee_email", columnList = "invitee_email"))
+public class SharedEmailInvitee {
+
+    @EmbeddedId
+    private SharedEmailInviteeId id;
+
+    @MapsId("sharedEmailId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "shared_email_id")
+    private SharedEmail sharedEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "permission")
+    private Permission permission;
+
+    public SharedEmailInvitee(SharedEmail sharedEmail, String inviteeEmail, Permission permission) {
+        this.id = new SharedEmailInviteeId(sharedEmail.getId(), inviteeEmail);
+        this.sharedEmail = sharedEmail;
+        this.permission = permission;
+    }
+
+    public String getInviteeEmail() {
+        return id.getInviteeEmail();
+    }
+
+    public void updatePermission(Permission permission) {
+        this.permission = permission;
+    }
+}
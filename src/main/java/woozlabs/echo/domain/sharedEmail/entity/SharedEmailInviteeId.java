@@ -0,0 +1,21 @@
+package woozlabs.echo.domain.sharedEmail.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class SharedEmailInviteeId implements Serializable {
+
+    private UUID sharedEmailId;
+
+    @Column(name = "invitee_email")
+    private String inviteeEmail;
+}
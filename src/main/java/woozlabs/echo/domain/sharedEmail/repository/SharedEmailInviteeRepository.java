@@ -0,0 +1,17 @@
+package woozlabs.echo.domain.sharedEmail.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import woozlabs.echo.domain.sharedEmail.entity.SharedEmailInvitee;
+import woozlabs.echo.domain.sharedEmail.entity.SharedEmailInviteeId;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SharedEmailInviteeRepository extends JpaRepository<SharedEmailInvitee, SharedEmailInviteeId> {
+
+    // invitee_email 인덱스로 나에게 공유된 메일을 조회
+    @Query("SELECT i FROM SharedEmailInvitee i JOIN FETCH i.sharedEmail WHERE i.id.inviteeEmail IN :emails")
+    List<SharedEmailInvitee> findWithSharedEmailByInviteeEmailIn(@Param("emails") Collection<String> emails);
+}
@@ -2,6 +2,8 @@ package woozlabs.echo.domain.sharedEmail.service;
 
 import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
 import com.amazonaws.services.simpleemail.model.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,50 +11,209 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
+import woozlabs.echo.domain.sharedEmail.dto.InvitationDelivery;
 import woozlabs.echo.domain.sharedEmail.dto.SendSharedEmailInvitationDto;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
 
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 공유 메일 초대를 SES template 으로 한 번만 렌더링해 두고, SendBulkTemplatedEmail 로 50명씩 발송한다.
+ * 호출 간격은 계정의 max send rate 에 맞추고, 일시적인 실패(throttle 등)는 해당 수신자만 backoff 후 재시도한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InviteShareEmailService {
 
+    static final String TEMPLATE_NAME = "echo-public-shared-email";
+    static final int MAX_DESTINATIONS_PER_CALL = 50;
+    static final int MAX_ATTEMPTS = 3;
+    static final String UNREGISTERED_NOTICE =
+            "This email grants access to this item without logging in. Only forward it to people you trust.\n";
+    private static final String SUBJECT = "Join your team on Echo";
+    private static final Set<String> RETRYABLE_STATUSES = Set.of(
+            BulkEmailStatus.AccountThrottled.toString(),
+            BulkEmailStatus.TransientFailure.toString(),
+            BulkEmailStatus.Failed.toString());
+
     private final AmazonSimpleEmailService amazonSimpleEmailService;
     private final TemplateEngine templateEngine;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean templateReady;
+    private volatile double maxSendRate;
+    private long nextSendAtNanos;
 
     @Value("${aws.ses.from.email}")
     private String fromEmail;
 
+    @Value("${aws.ses.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // 가입된 계정은 memo 그대로, 미가입 이메일은 로그인 없이 열람된다는 안내를 붙여서 발송
     @Async
-    public void sendEmailViaSES(String inviteeEmail, String invitationMemo, SendSharedEmailInvitationDto emailContentDto) {
+    public CompletableFuture<List<InvitationDelivery>> sendInvitations(List<String> registeredInvitees,
+                                                                       List<String> unregisteredInvitees,
+                                                                       SendSharedEmailInvitationDto emailContentDto) {
+        String memo = Objects.toString(emailContentDto.getInvitationMemo(), "");
+        List<InvitationDelivery> deliveries = new ArrayList<>();
+        registeredInvitees.forEach(email -> deliveries.add(new InvitationDelivery(email, memo)));
+        unregisteredInvitees.forEach(email -> deliveries.add(new InvitationDelivery(email, UNREGISTERED_NOTICE + memo)));
+        if (deliveries.isEmpty()) return CompletableFuture.completedFuture(deliveries);
+
+        ensureTemplate();
+        String defaultTemplateData = toJson(templateData(emailContentDto, memo));
+
+        List<InvitationDelivery> pending = deliveries;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) sleep(retryBackoffMs << (attempt - 2));
+            List<InvitationDelivery> retry = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += MAX_DESTINATIONS_PER_CALL) {
+                List<InvitationDelivery> chunk = pending.subList(from, Math.min(from + MAX_DESTINATIONS_PER_CALL, pending.size()));
+                retry.addAll(sendChunk(chunk, defaultTemplateData));
+            }
+            pending = retry;
+        }
+
+        long sent = deliveries.stream().filter(InvitationDelivery::isSent).count();
+        log.info("Shared email invitations sent via SES: {}/{}", sent, deliveries.size());
+        deliveries.stream()
+                .filter(delivery -> !delivery.isSent())
+                .forEach(delivery -> log.error("Failed to send invitation via SES to: {} after {} attempts. Status: {}, Error: {}",
+                        delivery.getEmail(), delivery.getAttempts(), delivery.getStatus(), delivery.getError()));
+        return CompletableFuture.completedFuture(deliveries);
+    }
+
+    // 재시도할 수신자를 반환
+    private List<InvitationDelivery> sendChunk(List<InvitationDelivery> chunk, String defaultTemplateData) {
+        List<BulkEmailDestination> destinations = new ArrayList<>(chunk.size());
+        for (InvitationDelivery delivery : chunk) {
+            destinations.add(new BulkEmailDestination()
+                    .withDestination(new Destination().withToAddresses(delivery.getEmail()))
+                    .withReplacementTemplateData(toJson(Map.of("invitationMemo", delivery.getInvitationMemo()))));
+        }
+        SendBulkTemplatedEmailRequest request = new SendBulkTemplatedEmailRequest()
+                .withSource(fromEmail)
+                .withTemplate(TEMPLATE_NAME)
+                .withDefaultTemplateData(defaultTemplateData)
+                .withDestinations(destinations);
+
+        List<InvitationDelivery> retry = new ArrayList<>();
         try {
-            SendEmailRequest request = new SendEmailRequest()
-                    .withDestination(new Destination().withToAddresses(inviteeEmail))
-                    .withMessage(new Message()
-                            .withBody(new Body()
-                                    .withHtml(new Content()
-                                            .withCharset("UTF-8").withData(getHtmlContent(invitationMemo, emailContentDto))))
-                            .withSubject(new Content().withCharset("UTF-8").withData("Join your team on Echo")))
-                    .withSource(fromEmail);
-
-            amazonSimpleEmailService.sendEmail(request);
-            log.info("Email sent successfully via SES to: {}", inviteeEmail);
+            awaitSendRate(chunk.size());
+            List<BulkEmailDestinationStatus> statuses = amazonSimpleEmailService.sendBulkTemplatedEmail(request).getStatus();
+            for (int idx = 0; idx < chunk.size(); idx++) {
+                InvitationDelivery delivery = chunk.get(idx);
+                BulkEmailDestinationStatus status = idx < statuses.size() ? statuses.get(idx) : null;
+                if (status == null) {
+                    delivery.recordAttempt(BulkEmailStatus.Failed.toString(), null, "Missing destination status");
+                } else {
+                    delivery.recordAttempt(status.getStatus(), status.getMessageId(), status.getError());
+                }
+                if (RETRYABLE_STATUSES.contains(delivery.getStatus())) retry.add(delivery);
+            }
+        } catch (AmazonSimpleEmailServiceException e) {
+            // 요청 자체가 거절되면 chunk 전체를 일시적 실패로 보고 재시도 (잘못된 요청은 재시도하지 않음)
+            boolean retryable = e.getStatusCode() >= 500 || "Throttling".equals(e.getErrorCode());
+            for (InvitationDelivery delivery : chunk) {
+                delivery.recordAttempt(retryable ? BulkEmailStatus.TransientFailure.toString() : BulkEmailStatus.Failed.toString(),
+                        null, e.getErrorMessage());
+                if (retryable) retry.add(delivery);
+            }
         } catch (Exception e) {
-            log.error("Failed to send email via SES to: {}. Error: {}", inviteeEmail, e.getMessage());
-            throw new CustomErrorException(ErrorCode.FAILED_TO_INVITATION_MAIL, e.getMessage());
+            for (InvitationDelivery delivery : chunk) {
+                delivery.recordAttempt(BulkEmailStatus.TransientFailure.toString(), null, e.getMessage());
+                retry.add(delivery);
+            }
         }
+        return retry;
     }
 
-    private String getHtmlContent(String invitationMemo, SendSharedEmailInvitationDto sendSharedEmailInvitationDto) {
-        Context context = new Context();
-        context.setVariable("invitationMemo", sendSharedEmailInvitationDto.getInvitationMemo());
-        context.setVariable("access", sendSharedEmailInvitationDto.getAccess());
-        context.setVariable("permission", sendSharedEmailInvitationDto.getPermission());
-        context.setVariable("dataId", sendSharedEmailInvitationDto.getDataId());
-        context.setVariable("sharedDataType", sendSharedEmailInvitationDto.getSharedDataType());
+    // template 은 memo 등을 SES 치환 변수로 둔 채 한 번만 렌더링해서 등록
+    private void ensureTemplate() {
+        if (templateReady) return;
+        synchronized (this) {
+            if (templateReady) return;
+            Template template = new Template()
+                    .withTemplateName(TEMPLATE_NAME)
+                    .withSubjectPart(SUBJECT)
+                    .withHtmlPart(getHtmlTemplate());
+            try {
+                try {
+                    amazonSimpleEmailService.updateTemplate(new UpdateTemplateRequest().withTemplate(template));
+                } catch (TemplateDoesNotExistException e) {
+                    amazonSimpleEmailService.createTemplate(new CreateTemplateRequest().withTemplate(template));
+                }
+            } catch (Exception e) {
+                log.error("Failed to register SES template: {}. Error: {}", TEMPLATE_NAME, e.getMessage());
+                throw new CustomErrorException(ErrorCode.FAILED_TO_INVITATION_MAIL, e.getMessage());
+            }
+            templateReady = true;
+        }
+    }
 
+    private String getHtmlTemplate() {
+        Context context = new Context();
+        for (String variable : List.of("invitationMemo", "access", "permission", "dataId", "sharedDataType")) {
+            context.setVariable(variable, "{{" + variable + "}}");
+        }
         return templateEngine.process("public-shared-email", context);
     }
 
-}
\ No newline at end of file
+    private Map<String, String> templateData(SendSharedEmailInvitationDto emailContentDto, String memo) {
+        Map<String, String> data = new HashMap<>();
+        data.put("invitationMemo", memo);
+        data.put("access", Objects.toString(emailContentDto.getAccess(), ""));
+        data.put("permission", Objects.toString(emailContentDto.getPermission(), ""));
+        data.put("dataId", Objects.toString(emailContentDto.getDataId(), ""));
+        data.put("sharedDataType", Objects.toString(emailContentDto.getSharedDataType(), ""));
+        return data;
+    }
+
+    // SES 의 max send rate 는 초당 수신자 수 기준
+    private void awaitSendRate(int recipients) {
+        long waitNanos;
+        synchronized (this) {
+            long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(recipients) / getMaxSendRate());
+            long now = System.nanoTime();
+            long sendAt = Math.max(now, nextSendAtNanos);
+            nextSendAtNanos = sendAt + intervalNanos;
+            waitNanos = sendAt - now;
+        }
+        if (waitNanos > 0) LockSupport.parkNanos(waitNanos);
+    }
+
+    private double getMaxSendRate() {
+        if (maxSendRate > 0) return maxSendRate;
+        try {
+            Double rate = amazonSimpleEmailService.getSendQuota(new GetSendQuotaRequest()).getMaxSendRate();
+            maxSendRate = rate != null && rate > 0 ? rate : 1;
+        } catch (Exception e) {
+            // 다음 발송 때 다시 조회
+            log.warn("Failed to get SES send quota, fallback to 1 email/s. Error: {}", e.getMessage());
+            return 1;
+        }
+        return maxSendRate;
+    }
+
+    private String toJson(Map<String, String> data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new CustomErrorException(ErrorCode.FAILED_TO_INVITATION_MAIL, e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
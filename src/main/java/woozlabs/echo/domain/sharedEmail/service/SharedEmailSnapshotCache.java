@@ -0,0 +1,133 @@
+package woozlabs.echo.domain.sharedEmail.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.gmail.dto.message.GmailMessageGetResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetResponse;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 공유 메일의 thread/message 를 sharedEmailId 별로 보관해서, 링크가 많이 열려도 owner 의 Gmail quota 를 쓰지 않게 한다.
+ * revalidate-seconds 가 지나면 historyId 만 조회해서 바뀌지 않았으면 그대로 쓰고, 바뀌었으면 다시 읽는다.
+ * 같은 공유 메일에 대한 동시 요청은 하나의 조회 결과를 기다린다(single-flight).
+ * max-snapshot-kb 보다 큰 snapshot 은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class SharedEmailSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final long maxSnapshotKb;
+    // 첨부/본문 크기가 snapshot 마다 크게 다르므로 개수가 아니라 직렬화한 크기(KB)로 제한
+    private final Cache<UUID, Snapshot> snapshots;
+    private final ConcurrentHashMap<UUID, CompletableFuture<Snapshot>> inFlightLoads = new ConcurrentHashMap<>();
+
+    @Value("${shared-email.snapshot.revalidate-seconds:30}")
+    private long revalidateSeconds;
+
+    public SharedEmailSnapshotCache(ObjectMapper objectMapper,
+                                    @Value("${shared-email.snapshot.max-total-kb:262144}") long maxTotalKb,
+                                    @Value("${shared-email.snapshot.max-snapshot-kb:5120}") long maxSnapshotKb) {
+        this.objectMapper = objectMapper;
+        this.maxSnapshotKb = maxSnapshotKb;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxTotalKb)
+                .weigher((UUID sharedEmailId, Snapshot snapshot) -> snapshot.getWeightKb())
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+    }
+
+    public Snapshot get(UUID sharedEmailId, Callable<BigInteger> currentHistoryId, Supplier<Object> loader) {
+        Snapshot cached = snapshots.getIfPresent(sharedEmailId);
+        if (cached != null && !isStale(cached)) return cached;
+
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> existing = inFlightLoads.putIfAbsent(sharedEmailId, created);
+        if (existing != null) return await(existing);
+        try {
+            Snapshot snapshot = revalidateOrLoad(sharedEmailId, cached, currentHistoryId, loader);
+            if (snapshot.getWeightKb() <= maxSnapshotKb) {
+                snapshots.put(sharedEmailId, snapshot);
+            } else {
+                // 너무 큰 snapshot 은 다른 공유 메일을 밀어내지 않도록 캐시하지 않음
+                snapshots.invalidate(sharedEmailId);
+            }
+            created.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            snapshots.invalidate(sharedEmailId);
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(sharedEmailId, created);
+        }
+    }
+
+    private Snapshot revalidateOrLoad(UUID sharedEmailId, Snapshot cached, Callable<BigInteger> currentHistoryId, Supplier<Object> loader) {
+        if (cached != null && cached.getHistoryId() != null) {
+            try {
+                if (cached.getHistoryId().equals(currentHistoryId.call())) {
+                    return new Snapshot(cached.getData(), cached.getHistoryId(), System.currentTimeMillis(), cached.getWeightKb());
+                }
+            } catch (Exception e) {
+                // 삭제된 thread 등은 전체 조회에서 처리
+                log.debug("Failed to revalidate shared email snapshot {}: {}", sharedEmailId, e.getMessage());
+            }
+        }
+        Object data = loader.get();
+        return new Snapshot(data, getHistoryId(data), System.currentTimeMillis(), getWeightKb(data));
+    }
+
+    // 응답으로 직렬화될 크기 기준, 최소 1
+    private int getWeightKb(Object data) {
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, objectMapper.writeValueAsBytes(data).length / 1024L + 1);
+        } catch (JsonProcessingException e) {
+            // 크기를 알 수 없으면 캐시하지 않음
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private boolean isStale(Snapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.getValidatedAtMillis() >= Duration.ofSeconds(revalidateSeconds).toMillis();
+    }
+
+    private static BigInteger getHistoryId(Object data) {
+        if (data instanceof GmailThreadGetResponse thread) return thread.getHistoryId();
+        if (data instanceof GmailMessageGetResponse message) return message.getHistoryId();
+        return null;
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final Object data;
+        private final BigInteger historyId;
+        private final long validatedAtMillis;
+        private final int weightKb;
+    }
+}
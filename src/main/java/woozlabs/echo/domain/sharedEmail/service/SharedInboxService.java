@@ -1,21 +1,27 @@
 package woozlabs.echo.domain.sharedEmail.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import woozlabs.echo.domain.gmail.service.GmailService;
 import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.domain.member.entity.Member;
 import woozlabs.echo.domain.member.entity.MemberAccount;
 import woozlabs.echo.domain.member.repository.AccountRepository;
 import woozlabs.echo.domain.member.repository.MemberRepository;
+import woozlabs.echo.domain.member.service.AccountExistenceCache;
 import woozlabs.echo.domain.sharedEmail.dto.CreateSharedRequestDto;
 import woozlabs.echo.domain.sharedEmail.dto.ExcludeInviteesRequestDto;
 import woozlabs.echo.domain.sharedEmail.dto.GetSharedEmailResponseDto;
@@ -27,6 +33,8 @@ import woozlabs.echo.domain.sharedEmail.entity.Access;
 import woozlabs.echo.domain.sharedEmail.entity.Permission;
 import woozlabs.echo.domain.sharedEmail.entity.SharedDataType;
 import woozlabs.echo.domain.sharedEmail.entity.SharedEmail;
+import woozlabs.echo.domain.sharedEmail.entity.SharedEmailInvitee;
+import woozlabs.echo.domain.sharedEmail.repository.SharedEmailInviteeRepository;
 import woozlabs.echo.domain.sharedEmail.repository.SharedInboxRepository;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
@@ -42,6 +50,9 @@ public class SharedInboxService {
     private final MemberRepository memberRepository;
     private final InviteShareEmailService inviteShareEmailService;
     private final GmailService gmailService;
+    private final AccountExistenceCache accountExistenceCache;
+    private final SharedEmailSnapshotCache sharedEmailSnapshotCache;
+    private final SharedEmailInviteeRepository sharedEmailInviteeRepository;
 
     private static String generateId(String id, SharedDataType sharedDataType) {
         if (sharedDataType.equals(SharedDataType.THREAD)) {
@@ -99,8 +110,8 @@ public class SharedInboxService {
                 .owner(account)
                 .canEditorEditPermission(createSharedRequestDto.isCanEditorEditPermission())
                 .canViewerViewToolMenu(createSharedRequestDto.isCanViewerViewToolMenu())
-                .inviteePermissions(inviteePermissions)
                 .build();
+        sharedEmail.putInvitee(account.getEmail(), Permission.OWNER);
 
         sharedEmail = sharedInboxRepository.save(sharedEmail);
         log.info("New SharedEmail saved with id: {}", sharedEmail.getId());
@@ -134,33 +145,34 @@ public class SharedInboxService {
         checkPermission(account.getEmail(), sharedEmail, Permission.OWNER);
 
         List<String> invitees = sendSharedEmailInvitationDto.getInvitees();
-        Map<String, Permission> currentPermissions = new HashMap<>(sharedEmail.getInviteePermissions());
+        Set<String> existingEmails = sendSharedEmailInvitationDto.isNotifyInvitation()
+                ? accountExistenceCache.findExistingEmails(invitees)
+                : Set.of();
 
+        List<String> registeredInvitees = new ArrayList<>();
+        List<String> unregisteredInvitees = new ArrayList<>();
         for (String invitee : invitees) {
             if (invitee.equals(account.getEmail())) {
                 continue;
             }
 
-            currentPermissions.put(invitee, sendSharedEmailInvitationDto.getPermission());
+            sharedEmail.putInvitee(invitee, sendSharedEmailInvitationDto.getPermission());
 
             if (sendSharedEmailInvitationDto.isNotifyInvitation()) {
-                accountRepository.findByEmail(invitee).ifPresentOrElse(
-                        existingAccount -> {
-                            inviteShareEmailService.sendEmailViaSES(existingAccount.getEmail(),
-                                    sendSharedEmailInvitationDto.getInvitationMemo(), sendSharedEmailInvitationDto);
-                        },
-                        () -> {
-                            inviteShareEmailService.sendEmailViaSES(invitee,
-                                    "This email grants access to this item without logging in. Only forward it to people you trust.\n"
-                                            + sendSharedEmailInvitationDto.getInvitationMemo(),
-                                    sendSharedEmailInvitationDto);
-                        }
-                );
+                if (existingEmails.contains(invitee)) {
+                    registeredInvitees.add(invitee);
+                } else {
+                    unregisteredInvitees.add(invitee);
+                }
             }
         }
 
-        sharedEmail.setInviteePermissions(currentPermissions);
-        sharedEmail = sharedInboxRepository.save(sharedEmail);
+        // 초대 메일은 한 번에 bulk 발송
+        if (sendSharedEmailInvitationDto.isNotifyInvitation()) {
+            inviteShareEmailService.sendInvitations(registeredInvitees, unregisteredInvitees, sendSharedEmailInvitationDto);
+        }
+
+        // 관리 중인 entity 라 flush 때 추가/변경된 초대 대상만 저장됨
         log.info("SharedEmail updated with new invitees.");
 
         return SharedEmailResponseDto.builder()
@@ -213,6 +225,30 @@ public class SharedInboxService {
                 .build();
     }
 
+    // 다른 사람이 나에게 공유한 메일 목록 (invitee_email 인덱스로 조회)
+    public List<SharedEmailResponseDto> getSharedWithMe(String uid) {
+        Account account = accountRepository.findByUid(uid)
+                .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE));
+
+        return sharedEmailInviteeRepository.findWithSharedEmailByInviteeEmailIn(List.of(account.getEmail())).stream()
+                .filter(invitee -> invitee.getPermission() != Permission.OWNER)
+                .map(invitee -> {
+                    SharedEmail sharedEmail = invitee.getSharedEmail();
+                    return SharedEmailResponseDto.builder()
+                            .id(sharedEmail.getId())
+                            .access(sharedEmail.getAccess())
+                            .dataId(sharedEmail.getDataId())
+                            .sharedDataType(sharedEmail.getSharedDataType())
+                            .canEditorEditPermission(sharedEmail.isCanEditorEditPermission())
+                            .canViewerViewToolMenu(sharedEmail.isCanViewerViewToolMenu())
+                            .inviteePermissions(Map.of(invitee.getInviteeEmail(), invitee.getPermission()))
+                            .createdAt(sharedEmail.getCreatedAt())
+                            .updatedAt(sharedEmail.getUpdatedAt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     public GetSharedEmailResponseDto getSharedEmail(String uid, UUID sharedEmailId) {
         log.info("getSharedEmail called with uid: {} and sharedEmailId: {}", uid, sharedEmailId);
 
@@ -258,31 +294,57 @@ public class SharedInboxService {
             log.debug("Anonymous access to PUBLIC SharedEmail {}. Setting permission to PUBLIC_VIEWER", sharedEmailId);
         }
 
-        Object sharedEmailData = fetchSharedEmailData(sharedEmail);
+        SharedEmailSnapshotCache.Snapshot snapshot = getSnapshot(sharedEmail);
         Map<String, Permission> filteredPermissions = determineFilteredPermissions(sharedEmail, permissionLevel, uid);
+        boolean canEdit = permissionLevel == Permission.EDITOR && sharedEmail.isCanEditorEditPermission();
+        boolean canViewToolMenu = permissionLevel == Permission.EDITOR || (permissionLevel == Permission.OWNER
+                && sharedEmail.isCanViewerViewToolMenu());
 
         log.info("Successfully fetched shared email data for SharedEmailId: {}", sharedEmailId);
         return GetSharedEmailResponseDto.builder()
-                .sharedEmailData(sharedEmailData)
+                .sharedEmailData(snapshot.getData())
                 .dataId(sharedEmail.getDataId())
                 .permissionLevel(permissionLevel)
-                .canEdit(permissionLevel == Permission.EDITOR && sharedEmail.isCanEditorEditPermission())
-                .canViewToolMenu(permissionLevel == Permission.EDITOR || (permissionLevel == Permission.OWNER
-                        && sharedEmail.isCanViewerViewToolMenu()))
+                .canEdit(canEdit)
+                .canViewToolMenu(canViewToolMenu)
                 .sharedDataType(sharedEmail.getSharedDataType())
                 .inviteePermissions(filteredPermissions)
+                .etag(createETag(sharedEmailId, snapshot, permissionLevel, canEdit, canViewToolMenu, filteredPermissions))
                 .build();
     }
 
-    private Object fetchSharedEmailData(SharedEmail sharedEmail) {
-        String dataId = sharedEmail.getDataId();
+    // owner 의 Gmail 은 snapshot 이 없거나 historyId 가 바뀐 경우에만 전체 조회
+    private SharedEmailSnapshotCache.Snapshot getSnapshot(SharedEmail sharedEmail) {
+        String dataId = stripDataIdPrefix(sharedEmail.getDataId());
+        return sharedEmailSnapshotCache.get(sharedEmail.getId(),
+                () -> sharedEmail.getSharedDataType() == SharedDataType.THREAD
+                        ? gmailService.getThreadHistoryId(sharedEmail.getOwner().getAccessToken(), dataId)
+                        : gmailService.getMessageHistoryId(sharedEmail.getOwner().getAccessToken(), dataId),
+                () -> fetchSharedEmailData(sharedEmail));
+    }
+
+    // 같은 Gmail 데이터와 같은 권한으로 본 응답이면 같은 값
+    private static String createETag(UUID sharedEmailId, SharedEmailSnapshotCache.Snapshot snapshot, Permission permissionLevel,
+                                     boolean canEdit, boolean canViewToolMenu, Map<String, Permission> inviteePermissions) {
+        if (snapshot.getHistoryId() == null) return null;
+        String version = sharedEmailId + ":" + snapshot.getHistoryId() + ":" + permissionLevel + ":" + canEdit + ":"
+                + canViewToolMenu + ":" + new TreeMap<>(inviteePermissions);
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static String stripDataIdPrefix(String dataId) {
         if (dataId.startsWith("m_") || dataId.startsWith("t_")) {
-            dataId = dataId.substring(2);
+            return dataId.substring(2);
         }
+        return dataId;
+    }
 
-        String ownerUid = sharedEmail.getOwner().getUid();
-        Account ownerAccount = accountRepository.findByUid(ownerUid)
-                .orElseThrow(() -> new CustomErrorException(ErrorCode.NOT_FOUND_ACCOUNT_ERROR_MESSAGE));
+    private Object fetchSharedEmailData(SharedEmail sharedEmail) {
+        String dataId = stripDataIdPrefix(sharedEmail.getDataId());
+
+        // owner 는 SharedEmail 에서 바로 읽음 (uid 로 다시 조회하지 않음)
+        Account ownerAccount = sharedEmail.getOwner();
+        String ownerUid = ownerAccount.getUid();
 
         String ownerAccessToken = ownerAccount.getAccessToken();
         try {
@@ -310,17 +372,16 @@ public class SharedInboxService {
 
     private Map<String, Permission> determineFilteredPermissions(SharedEmail sharedEmail, Permission permissionLevel,
                                                                  String uid) {
-        Map<String, Permission> inviteePermissions = new HashMap<>(sharedEmail.getInviteePermissions());
-        inviteePermissions.replaceAll((email, permission) -> {
-            boolean isPresent = accountRepository.findByEmail(email).isPresent();
-            return isPresent ? permission : Permission.PUBLIC_VIEWER;
-        });
-
         // 권한에 따라 반환할 inviteePermission 설정
         Map<String, Permission> filteredPermissions = new HashMap<>();
         String ownerEmail = sharedEmail.getOwner().getEmail();
 
         if (permissionLevel == Permission.OWNER || permissionLevel == Permission.EDITOR) {
+            // 전체 목록을 볼 때만 가입 여부를 한 번에 조회
+            Map<String, Permission> inviteePermissions = new HashMap<>(sharedEmail.getInviteePermissions());
+            Set<String> existingEmails = accountExistenceCache.findExistingEmails(inviteePermissions.keySet());
+            inviteePermissions.replaceAll((email, permission) ->
+                    existingEmails.contains(email) ? permission : Permission.PUBLIC_VIEWER);
             filteredPermissions = inviteePermissions;
         } else if (permissionLevel == Permission.VIEWER) {
             filteredPermissions.put(ownerEmail, Permission.OWNER);
@@ -356,25 +417,20 @@ public class SharedInboxService {
             throw new CustomErrorException(ErrorCode.FORBIDDEN_ACCESS_TO_SHARED_EMAIL);
         }
 
-        Map<String, Permission> currentPermissions = new HashMap<>(sharedEmail.getInviteePermissions());
         for (Map.Entry<String, Permission> entry : updateInviteePermissionsDto.getInviteePermissions().entrySet()) {
             String email = entry.getKey();
             Permission newPermission = entry.getValue();
 
-            if (currentPermissions.containsKey(email)) {
-                currentPermissions.put(email, newPermission);
-                log.info("Updated permissions for invitee: {} to {}", email, newPermission);
-            } else {
+            SharedEmailInvitee invitee = sharedEmail.findInvitee(email).orElseThrow(() -> {
                 log.error("Invitee not found: {}", email);
-                throw new CustomErrorException(ErrorCode.INVITEE_NOT_FOUND_ERROR);
-            }
+                return new CustomErrorException(ErrorCode.INVITEE_NOT_FOUND_ERROR);
+            });
+            invitee.updatePermission(newPermission);
+            log.info("Updated permissions for invitee: {} to {}", email, newPermission);
         }
 
-        sharedEmail.setInviteePermissions(currentPermissions);
-        sharedInboxRepository.save(sharedEmail);
-
         UpdateInviteePermissionsDto updatedPermissionsDto = new UpdateInviteePermissionsDto();
-        updatedPermissionsDto.setInviteePermissions(currentPermissions);
+        updatedPermissionsDto.setInviteePermissions(sharedEmail.getInviteePermissions());
 
         log.info("Successfully updated invitee permissions for SharedEmailId: {}", sharedEmailId);
         return updatedPermissionsDto;
@@ -399,19 +455,15 @@ public class SharedInboxService {
             throw new CustomErrorException(ErrorCode.FORBIDDEN_ACCESS_TO_SHARED_EMAIL);
         }
 
-        Map<String, Permission> currentPermissions = sharedEmail.getInviteePermissions();
         List<String> inviteeEmails = excludeInviteesRequestDto.getInviteeEmails();
 
+        // orphanRemoval 로 제외한 row 만 삭제
         for (String invitee : inviteeEmails) {
-            if (currentPermissions.containsKey(invitee)) {
-                currentPermissions.remove(invitee);
-            } else {
+            if (!sharedEmail.removeInvitee(invitee)) {
                 throw new CustomErrorException(ErrorCode.INVITEE_NOT_FOUND_ERROR);
             }
         }
-
-        sharedEmail.setInviteePermissions(currentPermissions);
-        sharedInboxRepository.save(sharedEmail);
+        Map<String, Permission> currentPermissions = sharedEmail.getInviteePermissions();
 
         log.info("Successfully excluded invitees for SharedEmailId: {}", sharedEmailId);
         return SharedEmailResponseDto.builder()
@@ -27,7 +27,7 @@ public class AuthVerifyAspect {
 
         String idToken = authorizationHeader.replace("Bearer ", "");
         try {
-            firebaseTokenVerifier.verifyToken(idToken);
+            firebaseTokenVerifier.verifyTokenAndGetUid(idToken);
         } catch (FirebaseAuthException e) {
             throw new CustomErrorException(ErrorCode.NOT_VERIFY_ID_TOKEN);
         }
@@ -19,6 +19,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.transaction.PlatformTransactionManager;
 import woozlabs.echo.domain.member.entity.Account;
 import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -32,6 +33,7 @@ public class TokenExpireBatchJob {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final AccountRepository accountRepository;
+    private final AccountContextCache accountContextCache;
 
     private static final int CHUNK_SIZE = 10;
 
@@ -83,6 +85,7 @@ public class TokenExpireBatchJob {
         return accounts -> {
             log.info("TokenExpireBatchJob: Saving {} expired accounts", accounts.size());
             accountRepository.saveAll(accounts);
+            accountContextCache.evictAccounts(accounts.getItems().stream().map(Account::getId).toList());
         };
     }
 }
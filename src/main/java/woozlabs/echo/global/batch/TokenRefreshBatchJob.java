@@ -1,30 +1,44 @@
 package woozlabs.echo.global.batch;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.Step;
+import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
-import woozlabs.echo.domain.member.entity.Account;
-import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
 import woozlabs.echo.global.utils.GoogleOAuthUtils;
 
+import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 갱신 대상 account 를 id 구간으로 나눠 tokenRefreshExecutor 에서 병렬로 처리한다.
+ * 동시에 호출하는 OAuth 요청 수는 partition 수(GRID_SIZE)로 제한되고,
+ * 갱신한 token 은 chunk 단위 JDBC batch UPDATE 로 저장한다.
+ */
 @Slf4j
 @Configuration
 @EnableBatchProcessing
@@ -33,77 +47,168 @@ public class TokenRefreshBatchJob {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final AccountRepository accountRepository;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
     private final GoogleOAuthUtils googleOAuthUtils;
+    private final MeterRegistry meterRegistry;
+    private final AccountContextCache accountContextCache;
+    @Qualifier("tokenRefreshExecutor")
+    private final TaskExecutor tokenRefreshExecutor;
 
-    private static final int CHUNK_SIZE = 10;
+    private static final int CHUNK_SIZE = 50;
+    private static final int GRID_SIZE = 4;
+    private static final long REFRESH_CUTOFF_MINUTES = 50;
+    private static final String MANAGER_STEP_NAME = "refreshTokenManagerStep";
 
     @Bean
     public Job refreshTokenJob() {
         return new JobBuilder("refreshTokenJob", jobRepository)
-                .start(refreshTokenStep())
+                .start(refreshTokenManagerStep())
+                .listener(tokenRefreshMetricsListener())
+                .build();
+    }
+
+    @Bean
+    public Step refreshTokenManagerStep() {
+        return new StepBuilder(MANAGER_STEP_NAME, jobRepository)
+                .partitioner("refreshTokenStep", tokenRefreshPartitioner())
+                .step(refreshTokenStep())
+                .gridSize(GRID_SIZE)
+                .taskExecutor(tokenRefreshExecutor)
                 .build();
     }
 
     @Bean
     public Step refreshTokenStep() {
         return new StepBuilder("refreshTokenStep", jobRepository)
-                .<Account, Account>chunk(CHUNK_SIZE, transactionManager)
-                .reader(accountReader())
+                .<TokenRefreshItem, TokenRefreshItem>chunk(CHUNK_SIZE, transactionManager)
+                .reader(accountReader(null, null, null))
                 .processor(tokenRefreshProcessor())
                 .writer(accountWriter())
-                .faultTolerant()
-                .retry(Exception.class)
-                .retryLimit(3)
-                .skip(Exception.class)
-                .skipLimit(3)
+                .listener(accountContextEvictListener())
                 .build();
     }
 
+    // 대상 account 의 id 범위를 gridSize 개 구간으로 나눔
     @Bean
-    @StepScope
-    public RepositoryItemReader<Account> accountReader() {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(50);
-        log.info("TokenRefreshBatchJob: Cutoff time for accessTokenFetchedAtBefore query: {}", cutoffTime);
+    public Partitioner tokenRefreshPartitioner() {
+        return gridSize -> {
+            LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(REFRESH_CUTOFF_MINUTES);
+            log.info("TokenRefreshBatchJob: Cutoff time for access_token_fetched_at: {}", cutoffTime);
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM account WHERE access_token_fetched_at <= ?", cutoffTime);
+            Number minId = (Number) range.get("min_id");
+            Number maxId = (Number) range.get("max_id");
+
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            if (minId == null || maxId == null) {
+                partitions.put("partition0", createPartition(1L, 0L, cutoffTime)); // 갱신 대상 없음
+                return partitions;
+            }
+            long targetSize = (maxId.longValue() - minId.longValue()) / gridSize + 1;
+            for (int idx = 0; idx < gridSize; idx++) {
+                long start = minId.longValue() + idx * targetSize;
+                if (start > maxId.longValue()) break;
+                long end = Math.min(start + targetSize - 1, maxId.longValue());
+                partitions.put("partition" + idx, createPartition(start, end, cutoffTime));
+            }
+            return partitions;
+        };
+    }
+
+    private ExecutionContext createPartition(long minId, long maxId, LocalDateTime cutoffTime) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong("minId", minId);
+        context.putLong("maxId", maxId);
+        context.putString("cutoffTime", cutoffTime.toString());
+        return context;
+    }
 
-        return new RepositoryItemReaderBuilder<Account>()
+    // id keyset paging 이라 갱신된 row 가 조건에서 빠져도 건너뛰는 row 가 없음
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<TokenRefreshItem> accountReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("#{stepExecutionContext['cutoffTime']}") String cutoffTime) {
+        return new JdbcPagingItemReaderBuilder<TokenRefreshItem>()
                 .name("accountReader")
-                .repository(accountRepository)
-                .methodName("findByAccessTokenFetchedAtBefore")
-                .arguments(cutoffTime)
+                .dataSource(dataSource)
+                .selectClause("SELECT id, refresh_token")
+                .fromClause("FROM account")
+                .whereClause("WHERE access_token_fetched_at <= :cutoffTime AND id BETWEEN :minId AND :maxId")
+                .parameterValues(Map.of(
+                        "cutoffTime", LocalDateTime.parse(cutoffTime),
+                        "minId", minId,
+                        "maxId", maxId))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> new TokenRefreshItem(rs.getLong("id"), rs.getString("refresh_token")))
                 .pageSize(CHUNK_SIZE)
-                .sorts(Collections.singletonMap("id", Sort.Direction.ASC))
                 .build();
     }
 
     @Bean
-    public ItemProcessor<Account, Account> tokenRefreshProcessor() {
-        return account -> {
-            log.info("TokenRefreshBatchJob: Processing account ID: {}", account.getId());
+    public ItemProcessor<TokenRefreshItem, TokenRefreshItem> tokenRefreshProcessor() {
+        return item -> {
+            if (item.getRefreshToken() == null) return null;
             try {
-                Map<String, String> newTokens = googleOAuthUtils.refreshAccessToken(account.getRefreshToken());
-                String newAccessToken = newTokens.get("access_token");
-                account.setAccessToken(newAccessToken);
-                account.setAccessTokenFetchedAt(LocalDateTime.now());
-                log.info("TokenRefreshBatchJob: Successfully refreshed token for Account ID: {}", account.getId());
-                return account;
+                Map<String, String> newTokens = googleOAuthUtils.refreshAccessToken(item.getRefreshToken());
+                String newAccessToken = newTokens == null ? null : newTokens.get("access_token");
+                if (newAccessToken == null) {
+                    log.warn("TokenRefreshBatchJob: Google response did not contain access token, Account ID: {}", item.getId());
+                    return null;
+                }
+                item.refreshed(newAccessToken, LocalDateTime.now());
+                return item;
             } catch (Exception e) {
-                log.error("TokenRefreshBatchJob: Failed to refresh token for Account ID: {}", account.getId(), e);
-                throw e; // Rethrow the exception to trigger retry
+                // chunk 전체를 rollback 하고 OAuth 를 다시 호출하지 않도록 실패한 account 는 filter 하고 다음 실행에서 재시도
+                log.error("TokenRefreshBatchJob: Failed to refresh token for Account ID: {}", item.getId(), e);
+                return null;
+            }
+        };
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<TokenRefreshItem> accountWriter() {
+        return new JdbcBatchItemWriterBuilder<TokenRefreshItem>()
+                .dataSource(dataSource)
+                .sql("UPDATE account SET access_token = :accessToken, access_token_fetched_at = :accessTokenFetchedAt WHERE id = :id")
+                .beanMapped()
+                .assertUpdates(false)
+                .build();
+    }
+
+    // 저장된 token 으로 요청 캐시를 바로 갱신
+    @Bean
+    public ItemWriteListener<TokenRefreshItem> accountContextEvictListener() {
+        return new ItemWriteListener<>() {
+            @Override
+            public void afterWrite(Chunk<? extends TokenRefreshItem> items) {
+                accountContextCache.evictAccounts(items.getItems().stream().map(TokenRefreshItem::getId).toList());
             }
         };
     }
 
     @Bean
-    public ItemWriter<Account> accountWriter() {
-        return accounts -> {
-            for (Account account : accounts) {
-                if (account != null) {
-                    log.info("TokenRefreshBatchJob: Saving account ID: {}", account.getId());
-                    accountRepository.save(account);
-                } else {
-                    log.warn("TokenRefreshBatchJob: Received null account to save.");
+    public JobExecutionListener tokenRefreshMetricsListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                long refreshed = 0;
+                long failed = 0;
+                for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+                    if (!stepExecution.getStepName().equals(MANAGER_STEP_NAME)) continue; // partition 결과가 합산된 step
+                    refreshed += stepExecution.getWriteCount();
+                    failed += stepExecution.getFilterCount();
                 }
+                LocalDateTime endTime = jobExecution.getEndTime() != null ? jobExecution.getEndTime() : LocalDateTime.now();
+                Duration elapsed = Duration.between(jobExecution.getStartTime(), endTime);
+                meterRegistry.counter("echo.token.refresh.refreshed").increment(refreshed);
+                meterRegistry.counter("echo.token.refresh.failed").increment(failed);
+                meterRegistry.timer("echo.token.refresh.duration").record(elapsed);
+                double perSecond = elapsed.toMillis() == 0 ? refreshed : refreshed * 1000.0 / elapsed.toMillis();
+                log.info("TokenRefreshBatchJob: {} refreshed, {} failed in {}ms ({} accounts/s), status: {}",
+                        refreshed, failed, elapsed.toMillis(), String.format("%.1f", perSecond), jobExecution.getStatus());
             }
         };
     }
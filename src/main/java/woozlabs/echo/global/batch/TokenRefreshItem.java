@@ -0,0 +1,26 @@
+package woozlabs.echo.global.batch;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * token 갱신에 필요한 컬럼만 읽어 JDBC batch update 로 쓰기 위한 item
+ */
+@Getter
+public class TokenRefreshItem {
+    private final Long id;
+    private final String refreshToken;
+    private String accessToken;
+    private LocalDateTime accessTokenFetchedAt;
+
+    public TokenRefreshItem(Long id, String refreshToken) {
+        this.id = id;
+        this.refreshToken = refreshToken;
+    }
+
+    public void refreshed(String accessToken, LocalDateTime fetchedAt) {
+        this.accessToken = accessToken;
+        this.accessTokenFetchedAt = fetchedAt;
+    }
+}
@@ -3,10 +3,12 @@ package woozlabs.echo.global.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -20,4 +22,68 @@ public class AsyncConfig {
         taskExecutor.setQueueCapacity(50);
         return taskExecutor;
     }
-}
\ No newline at end of file
+
+    @Bean(name = "llmStreamExecutor")
+    public Executor llmStreamExecutor(){
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.setMaxPoolSize(32);
+        taskExecutor.setQueueCapacity(32);
+        taskExecutor.setThreadNamePrefix("llm-stream-");
+        return taskExecutor;
+    }
+
+    @Bean(name = "llmChunkExecutor")
+    public Executor llmChunkExecutor(){
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.setMaxPoolSize(16);
+        taskExecutor.setQueueCapacity(100);
+        taskExecutor.setThreadNamePrefix("llm-chunk-");
+        // queue 가 가득 차면 요청 스레드에서 실행해 속도를 늦춘다
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return taskExecutor;
+    }
+
+    @Bean(name = "pubSubExecutor")
+    public Executor pubSubExecutor(){
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(16);
+        taskExecutor.setQueueCapacity(500);
+        taskExecutor.setThreadNamePrefix("pubsub-");
+        return taskExecutor;
+    }
+
+    @Bean(name = "gmailHydrationExecutor")
+    public Executor gmailHydrationExecutor(){
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(8);
+        taskExecutor.setQueueCapacity(100);
+        taskExecutor.setThreadNamePrefix("gmail-hydration-");
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return taskExecutor;
+    }
+
+    // 여러 계정의 tokeninfo 를 병렬로 조회, 가득 차면 거절(AbortPolicy)하고 호출한 쪽에서 scope 를 알 수 없음으로 처리
+    @Bean(name = "googleOAuthExecutor")
+    public Executor googleOAuthExecutor(){
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.setMaxPoolSize(32);
+        taskExecutor.setQueueCapacity(100);
+        taskExecutor.setThreadNamePrefix("google-oauth-");
+        return taskExecutor;
+    }
+
+    // token 갱신 batch 의 partition worker, pool 크기만큼만 OAuth 를 동시에 호출한다
+    @Bean(name = "tokenRefreshExecutor")
+    public TaskExecutor tokenRefreshExecutor(){
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(4);
+        taskExecutor.setThreadNamePrefix("token-refresh-");
+        return taskExecutor;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -23,6 +24,7 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import woozlabs.echo.domain.chatGPT.ChatGPTInterface;
 import woozlabs.echo.domain.gemini.GeminiInterface;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -30,6 +32,7 @@ import java.util.List;
 public class RestTemplateConfig {
 
     @Bean
+    @Primary
     public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
         RestTemplate restTemplate = restTemplateBuilder.build();
 
@@ -44,6 +47,16 @@ public class RestTemplateConfig {
         return restTemplate;
     }
 
+    // tokeninfo 는 여러 계정을 병렬로 조회하고 timeout 이 지나면 결과를 버리므로, 늦은 요청이 worker 를 오래 잡지 않도록 짧게 제한
+    @Bean(name = "googleTokenInfoRestTemplate")
+    public RestTemplate googleTokenInfoRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                                    @Value("${google.tokeninfo.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                                    @Value("${google.tokeninfo.read-timeout-ms:3000}") long readTimeoutMs) {
+        return restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
 
     private HttpClient createHttpClient() {
         // Connection request timeout
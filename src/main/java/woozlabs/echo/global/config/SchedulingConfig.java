@@ -0,0 +1,37 @@
+package woozlabs.echo.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    // @Scheduled 작업용 (이름이 taskScheduler 인 bean 을 사용), batch/cleanup 이 겹쳐도 서로 막지 않도록 여러 스레드로 실행
+    @Bean(name = "taskScheduler")
+    public TaskScheduler taskScheduler(){
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(4);
+        taskScheduler.setThreadNamePrefix("scheduling-");
+        return taskScheduler;
+    }
+
+    // FCM batch flush 는 지연에 민감하므로 blocking 작업이 있는 @Scheduled 와 스레드를 공유하지 않는다
+    @Bean(name = "fcmFlushScheduler")
+    public TaskScheduler fcmFlushScheduler(){
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(2);
+        taskScheduler.setThreadNamePrefix("fcm-flush-");
+        return taskScheduler;
+    }
+
+    // Gmail watch 갱신 tick, 한 번에 하나만 실행
+    @Bean(name = "watchRenewalTaskScheduler")
+    public TaskScheduler watchRenewalTaskScheduler(){
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("watch-renewal-");
+        return taskScheduler;
+    }
+}
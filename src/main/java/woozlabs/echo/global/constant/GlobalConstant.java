@@ -16,6 +16,7 @@ public final class GlobalConstant {
     public static final String EMPTY_CHAR = "";
     // Gmail global
     public static final String USER_ID = "me";
+    public static final String PUB_SUB_TOPIC_NAME = "projects/echo-email-app/topics/gmail";
     // Gmail messages
     public static final String MESSAGE_PAYLOAD_HEADER_SUBJECT_KEY = "SUBJECT";
     public static final String MESSAGE_PAYLOAD_HEADER_FROM_KEY = "FROM";
@@ -32,6 +33,7 @@ public final class GlobalConstant {
     public static final String THREAD_PAYLOAD_HEADER_TO_KEY = "TO";
     public static final String THREAD_PAYLOAD_HEADER_CONTENT_ID_KEY = "CONTENT-ID";
     public static final String THREADS_GET_FULL_FORMAT = "full";
+    public static final String THREADS_GET_MINIMAL_FORMAT = "minimal";
     public static final Long THREADS_LIST_MAX_LENGTH = 50L;
 
     // Gmail drafts
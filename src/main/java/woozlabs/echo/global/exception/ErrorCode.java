@@ -102,6 +102,9 @@ public enum ErrorCode {
     // chatGPT
     FAILED_TO_CHATGPT_COMPLETION(500, "Error while getting completion from chatGPT"),
 
+    // llm
+    LLM_PROVIDER_BUSY(503, "LLM provider is busy, please try again later"),
+
     // Email Template
     FAILED_TO_FETCHING_EMAIL_TEMPLATE(500, "Error occurred while fetching email templates for user"),
     FAILED_TO_CREATE_EMAIL_TEMPLATE(500, "Error occurred while creating email templates for user"),
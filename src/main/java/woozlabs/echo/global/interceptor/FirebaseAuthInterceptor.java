@@ -1,7 +1,6 @@
 package woozlabs.echo.global.interceptor;
 
 import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -34,8 +33,8 @@ public class FirebaseAuthInterceptor implements HandlerInterceptor {
             if (authHeader != null && authHeader.startsWith(AUTH_HEADER_PREFIX)) {
                 String idToken = authHeader.replace(AUTH_HEADER_PREFIX, EMPTY_CHAR);
                 try {
-                    FirebaseToken firebaseToken = firebaseTokenVerifier.verifyToken(idToken);
-                    request.setAttribute(FIREBASE_UID_KEY, firebaseToken.getUid());
+                    String uid = firebaseTokenVerifier.verifyTokenAndGetUid(idToken);
+                    request.setAttribute(FIREBASE_UID_KEY, uid);
                 } catch (FirebaseAuthException e) {
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, AUTH_UNAUTHORIZED_ERR_MSG);
                     return false;
@@ -53,14 +52,14 @@ public class FirebaseAuthInterceptor implements HandlerInterceptor {
             return false;
         }
         String idToken = authHeader.replace(AUTH_HEADER_PREFIX, EMPTY_CHAR);
-        FirebaseToken firebaseToken;
+        String uid;
         try{
-            firebaseToken = firebaseTokenVerifier.verifyToken(idToken);
+            uid = firebaseTokenVerifier.verifyTokenAndGetUid(idToken);
         }catch (FirebaseAuthException e){
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, AUTH_UNAUTHORIZED_ERR_MSG);
             return false;
         }        // setting attribute of request obj
-        request.setAttribute(GlobalConstant.FIREBASE_UID_KEY, firebaseToken.getUid());
+        request.setAttribute(GlobalConstant.FIREBASE_UID_KEY, uid);
         return true;
     }
 }
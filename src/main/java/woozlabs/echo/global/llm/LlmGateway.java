@@ -0,0 +1,156 @@
+package woozlabs.echo.global.llm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 앞단 게이트웨이.
+ * provider 별 동시 호출 수 제한(bulkhead), 대기 deadline, 동일 prompt 의 in-flight 호출 합치기(single-flight)를 담당한다.
+ */
+@Slf4j
+@Component
+public class LlmGateway {
+
+    private static final String QUEUE_TIMER = "echo.llm.queue";
+    private static final String LATENCY_TIMER = "echo.llm.latency";
+    private static final String REJECTED_COUNTER = "echo.llm.rejected";
+    private static final String COALESCED_COUNTER = "echo.llm.coalesced";
+
+    private final Map<LlmProvider, Semaphore> permits = new EnumMap<>(LlmProvider.class);
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long queueTimeoutMs;
+    private final long callTimeoutMs;
+
+    public LlmGateway(MeterRegistry meterRegistry,
+                      @Value("${llm.gemini.max-concurrency:16}") int geminiMaxConcurrency,
+                      @Value("${llm.chatgpt.max-concurrency:16}") int chatGptMaxConcurrency,
+                      @Value("${llm.queue-timeout-ms:3000}") long queueTimeoutMs,
+                      @Value("${llm.call-timeout-ms:60000}") long callTimeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.callTimeoutMs = callTimeoutMs;
+        permits.put(LlmProvider.GEMINI, new Semaphore(geminiMaxConcurrency, true));
+        permits.put(LlmProvider.CHATGPT, new Semaphore(chatGptMaxConcurrency, true));
+    }
+
+    /**
+     * 같은 provider + key 로 이미 진행 중인 호출이 있으면 그 결과를 같이 기다리고,
+     * 없으면 permit 을 얻어 직접 호출한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(LlmProvider provider, String key, Supplier<T> call) {
+        String flightKey = provider.getTag() + ":" + hash(key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, created);
+
+        if (existing != null) {
+            meterRegistry.counter(COALESCED_COUNTER, "provider", provider.getTag()).increment();
+            return (T) await(provider, existing);
+        }
+
+        try {
+            T result = callWithPermit(provider, call);
+            created.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error 도 전달해야 기다리던 호출이 timeout 까지 막혀 있지 않음
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, created);
+        }
+    }
+
+    /**
+     * 스트리밍 호출은 결과를 공유할 수 없으므로 coalescing 없이 permit 만 적용한다.
+     */
+    public void executeStream(LlmProvider provider, Runnable call) {
+        callWithPermit(provider, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> T callWithPermit(LlmProvider provider, Supplier<T> call) {
+        Semaphore semaphore = permits.get(provider);
+        long queuedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomErrorException(ErrorCode.LLM_PROVIDER_BUSY, e.getMessage());
+        }
+        Timer.builder(QUEUE_TIMER)
+                .tag("provider", provider.getTag())
+                .tag("acquired", String.valueOf(acquired))
+                .register(meterRegistry)
+                .record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            meterRegistry.counter(REJECTED_COUNTER, "provider", provider.getTag()).increment();
+            log.warn("LLM bulkhead full, provider: {}, waited {}ms", provider.getTag(), queueTimeoutMs);
+            throw new CustomErrorException(ErrorCode.LLM_PROVIDER_BUSY);
+        }
+
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            semaphore.release();
+            Timer.builder(LATENCY_TIMER)
+                    .tag("provider", provider.getTag())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Object await(LlmProvider provider, CompletableFuture<Object> future) {
+        try {
+            return future.get(queueTimeoutMs + callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new CustomErrorException(ErrorCode.LLM_PROVIDER_BUSY, e.getMessage());
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for coalesced LLM call, provider: {}", provider.getTag());
+            throw new CustomErrorException(ErrorCode.LLM_PROVIDER_BUSY, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomErrorException(ErrorCode.LLM_PROVIDER_BUSY, e.getMessage());
+        }
+    }
+
+    private String hash(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return String.valueOf(key.hashCode());
+        }
+    }
+}
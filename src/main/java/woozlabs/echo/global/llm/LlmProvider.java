@@ -0,0 +1,15 @@
+package woozlabs.echo.global.llm;
+
+import lombok.Getter;
+
+@Getter
+public enum LlmProvider {
+    GEMINI("gemini"),
+    CHATGPT("chatgpt");
+
+    private final String tag;
+
+    LlmProvider(String tag) {
+        this.tag = tag;
+    }
+}
@@ -0,0 +1,77 @@
+package woozlabs.echo.global.llm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * LLM 스트리밍 결과를 SSE 로 클라이언트에 전달한다.
+ * event: token(부분 텍스트), done(완료), error(실패)
+ */
+@Slf4j
+@Component
+public class SseStreamRelay {
+
+    private static final String TOKEN_EVENT = "token";
+    private static final String DONE_EVENT = "done";
+    private static final String ERROR_EVENT = "error";
+
+    private final Executor llmStreamExecutor;
+    private final long timeoutMs;
+
+    public SseStreamRelay(@Qualifier("llmStreamExecutor") Executor llmStreamExecutor,
+                          @Value("${llm.stream-timeout-ms:120000}") long timeoutMs) {
+        this.llmStreamExecutor = llmStreamExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter relay(ErrorCode errorCode, Consumer<Consumer<String>> producer) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            llmStreamExecutor.execute(() -> {
+                try {
+                    producer.accept(token -> send(emitter, TOKEN_EVENT, token));
+                    send(emitter, DONE_EVENT, "");
+                    emitter.complete();
+                } catch (UncheckedIOException e) {
+                    // 클라이언트 연결 끊김
+                    log.debug("SSE client disconnected: {}", e.getMessage());
+                    emitter.completeWithError(e);
+                } catch (Exception e) {
+                    log.error("Error while streaming LLM completion: ", e);
+                    sendError(emitter, errorCode);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            throw new CustomErrorException(ErrorCode.LLM_PROVIDER_BUSY, e.getMessage());
+        }
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, String event, String data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sendError(SseEmitter emitter, ErrorCode errorCode) {
+        try {
+            emitter.send(SseEmitter.event().name(ERROR_EVENT).data(errorCode.getMessage()));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
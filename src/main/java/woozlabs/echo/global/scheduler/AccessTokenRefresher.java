@@ -0,0 +1,174 @@
+package woozlabs.echo.global.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.member.service.AccountContextCache;
+import woozlabs.echo.global.utils.GoogleOAuthUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access token 만료 시각 순서의 delay queue 로, 만료 REFRESH_MARGIN 전에 계정별로 token 을 갱신한다.
+ * 시작할 때 DB 에서 한 번 읽어 queue 를 채우고, 로그인/갱신으로 token 이 바뀌면 schedule 로 다시 등록한다.
+ * 실제 갱신은 tokenRefreshExecutor 에서 실행되어 OAuth 동시 호출 수가 제한된다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRefresher {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofMinutes(60);
+    private static final Duration REFRESH_MARGIN = Duration.ofMinutes(10);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GoogleOAuthUtils googleOAuthUtils;
+    private final TaskExecutor tokenRefreshExecutor;
+    private final AccountContextCache accountContextCache;
+    private final DelayQueue<RefreshTask> refreshQueue = new DelayQueue<>();
+    // accountId -> queue 에 등록된 최신 accessTokenFetchedAt (이전 값으로 들어간 task 는 무시)
+    private final ConcurrentHashMap<Long, LocalDateTime> scheduledFetchedAt = new ConcurrentHashMap<>();
+    private volatile Thread dispatcher;
+
+    public AccessTokenRefresher(JdbcTemplate jdbcTemplate,
+                                GoogleOAuthUtils googleOAuthUtils,
+                                @Qualifier("tokenRefreshExecutor") TaskExecutor tokenRefreshExecutor,
+                                AccountContextCache accountContextCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.googleOAuthUtils = googleOAuthUtils;
+        this.tokenRefreshExecutor = tokenRefreshExecutor;
+        this.accountContextCache = accountContextCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Map<String, Object>> accounts = jdbcTemplate.queryForList(
+                "SELECT id, access_token_fetched_at FROM account WHERE access_token_fetched_at IS NOT NULL AND refresh_token IS NOT NULL");
+        for (Map<String, Object> account : accounts) {
+            schedule(((Number) account.get("id")).longValue(), toLocalDateTime(account.get("access_token_fetched_at")));
+        }
+        log.info("AccessTokenRefresher: Scheduled {} accounts", accounts.size());
+        dispatcher = new Thread(this::dispatch, "access-token-refresher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) dispatcher.interrupt();
+    }
+
+    // 로그인/갱신으로 token 을 새로 받은 경우 호출
+    public void schedule(Long accountId, LocalDateTime accessTokenFetchedAt) {
+        if (accountId == null || accessTokenFetchedAt == null) return;
+        LocalDateTime previous = scheduledFetchedAt.put(accountId, accessTokenFetchedAt);
+        if (accessTokenFetchedAt.equals(previous)) return;
+        LocalDateTime refreshAt = accessTokenFetchedAt.plus(TOKEN_LIFETIME).minus(REFRESH_MARGIN);
+        refreshQueue.add(new RefreshTask(accountId, accessTokenFetchedAt, toEpochMillis(refreshAt)));
+    }
+
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                RefreshTask task = refreshQueue.take();
+                if (!task.getAccessTokenFetchedAt().equals(scheduledFetchedAt.get(task.getAccountId()))) continue;
+                tokenRefreshExecutor.execute(() -> refresh(task));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("AccessTokenRefresher: Failed to dispatch refresh task", e);
+            }
+        }
+    }
+
+    private void refresh(RefreshTask task) {
+        Long accountId = task.getAccountId();
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT refresh_token, access_token_fetched_at FROM account WHERE id = ?", accountId);
+            LocalDateTime currentFetchedAt = rows.isEmpty() ? null : toLocalDateTime(rows.get(0).get("access_token_fetched_at"));
+            String refreshToken = rows.isEmpty() ? null : (String) rows.get(0).get("refresh_token");
+            if (currentFetchedAt == null || refreshToken == null) {
+                // 삭제되었거나 장기 미사용으로 token 이 만료 처리된 계정
+                scheduledFetchedAt.remove(accountId, task.getAccessTokenFetchedAt());
+                return;
+            }
+            if (currentFetchedAt.isAfter(task.getAccessTokenFetchedAt())) {
+                schedule(accountId, currentFetchedAt); // 로그인, 다른 서버 등에서 이미 갱신
+                return;
+            }
+            Map<String, String> newTokens = googleOAuthUtils.refreshAccessToken(refreshToken);
+            String newAccessToken = newTokens == null ? null : newTokens.get("access_token");
+            if (newAccessToken == null) throw new IllegalStateException("Google response did not contain access token");
+            LocalDateTime fetchedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            int updated = jdbcTemplate.update(
+                    "UPDATE account SET access_token = ?, access_token_fetched_at = ? WHERE id = ? AND access_token_fetched_at = ?",
+                    newAccessToken, fetchedAt, accountId, currentFetchedAt);
+            if (updated > 0) {
+                schedule(accountId, fetchedAt);
+                accountContextCache.evictAccount(accountId);
+            } else {
+                // 그 사이 다른 곳에서 갱신됨, 바로 다시 읽어서 새 만료 시각으로 등록
+                refreshQueue.add(new RefreshTask(accountId, task.getAccessTokenFetchedAt(), System.currentTimeMillis()));
+            }
+        } catch (Exception e) {
+            retry(task, e);
+        }
+    }
+
+    // 현재 token 이 만료된 뒤에도 실패하면 다음 로그인까지 포기
+    private void retry(RefreshTask task, Exception cause) {
+        LocalDateTime retryAt = LocalDateTime.now().plus(RETRY_DELAY);
+        if (retryAt.isAfter(task.getAccessTokenFetchedAt().plus(TOKEN_LIFETIME))) {
+            log.error("AccessTokenRefresher: Failed to refresh token before expiry, Account ID: {}", task.getAccountId(), cause);
+            scheduledFetchedAt.remove(task.getAccountId(), task.getAccessTokenFetchedAt());
+            return;
+        }
+        log.warn("AccessTokenRefresher: Retry token refresh, Account ID: {}, cause: {}", task.getAccountId(), cause.getMessage());
+        refreshQueue.add(new RefreshTask(task.getAccountId(), task.getAccessTokenFetchedAt(), toEpochMillis(retryAt)));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) return timestamp.toLocalDateTime();
+        return (LocalDateTime) value;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RefreshTask implements Delayed {
+        private final Long accountId;
+        private final LocalDateTime accessTokenFetchedAt;
+        private final long refreshAtMillis;
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(refreshAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(refreshAtMillis, ((RefreshTask) other).refreshAtMillis);
+        }
+    }
+}
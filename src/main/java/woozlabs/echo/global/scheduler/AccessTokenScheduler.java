@@ -27,7 +27,8 @@ public class AccessTokenScheduler {
         this.expireTokenJob = expireTokenJob;
     }
 
-    @Scheduled(fixedDelay = 5 * 60 * 1000)
+    // 평소 갱신은 AccessTokenRefresher 가 만료 시각에 맞춰 처리하고, 이 job 은 놓친 계정을 위한 일일 점검용
+    @Scheduled(cron = "0 30 4 * * ?")
     public void runRefreshTokenBatchJob() {
         log.info("Starting batch job to refresh tokens at {}", LocalDateTime.now());
         try {
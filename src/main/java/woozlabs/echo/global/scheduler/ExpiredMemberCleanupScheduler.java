@@ -1,65 +1,105 @@
 package woozlabs.echo.global.scheduler;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import woozlabs.echo.domain.auth.utils.FirebaseUtils;
 import woozlabs.echo.domain.member.repository.AccountRepository;
 import woozlabs.echo.domain.member.repository.MemberAccountRepository;
 import woozlabs.echo.domain.member.repository.MemberRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 30일이 지난 탈퇴 member 를 CHUNK_SIZE 명씩 각각의 transaction 으로 삭제한다.
+ * chunk 마다 Firebase 계정을 먼저 삭제(deleteUsers)하고 DB 를 지우므로, 중간에 실패해도
+ * 삭제되지 않은 member 는 다음 실행에서 다시 처리된다. (없는 Firebase user 삭제는 성공으로 처리됨)
+ * Firebase 삭제에 실패한 계정이 있으면 그 계정과 계정을 가진 member 는 DB 에서 지우지 않고 남긴다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ExpiredMemberCleanupScheduler {
 
+    private static final int CHUNK_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final MemberAccountRepository memberAccountRepository;
     private final AccountRepository accountRepository;
+    private final AccountContextCache accountContextCache;
+    private final FirebaseUtils firebaseUtils;
+    private final TransactionTemplate transactionTemplate;
+    private final GmailWatchRenewalScheduler gmailWatchRenewalScheduler;
 
     @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
     public void hardDeleteExpiredMembers() {
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+        int totalMembers = 0;
+        int totalAccounts = 0;
 
-        // 1. Find expired members
-        List<Long> expiredMemberIds = memberRepository.findExpiredMemberIds(thirtyDaysAgo);
-
-        if (expiredMemberIds.isEmpty()) {
-            log.info("No expired members found");
-            return;
-        }
-
-        // 2. Find accounts associated only with expired members
-        List<String> accountUidsToDelete = accountRepository.findUidsAssociatedOnlyWithExpiredMembers(expiredMemberIds);
+        long afterId = 0L;
+        while (true) {
+            // 1. Find next chunk of expired members
+            List<Long> expiredMemberIds = memberRepository.findExpiredMemberIds(thirtyDaysAgo, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (expiredMemberIds.isEmpty()) break;
+            afterId = expiredMemberIds.get(expiredMemberIds.size() - 1);
 
-        // 3. Bulk delete MemberAccounts for expired members
-        int deletedMemberAccounts = memberAccountRepository.bulkDeleteByMemberIds(expiredMemberIds);
-        log.info("Deleted {} MemberAccounts for expired members", deletedMemberAccounts);
-
-        // 4. Bulk delete expired Members
-        int deletedMembers = memberRepository.bulkDeleteByIds(expiredMemberIds);
-        log.info("Hard deleted {} expired members", deletedMembers);
+            int[] deleted;
+            try {
+                // 2. Find accounts associated only with expired members
+                List<String> accountUids = accountRepository.findUidsAssociatedOnlyWithExpiredMembers(expiredMemberIds);
 
-        // 5. Bulk delete Accounts associated only with expired members
-        int deletedAccounts = accountRepository.bulkDeleteByUids(accountUidsToDelete);
-        log.info("Deleted {} associated accounts", deletedAccounts);
+                // 3. Delete Firebase accounts before DB rows so a failed chunk can be retried
+                List<String> failedUids = firebaseUtils.deleteUsers(accountUids);
+                List<Long> memberIdsToDelete = expiredMemberIds;
+                List<String> accountUidsToDelete = accountUids;
+                if (!failedUids.isEmpty()) {
+                    // Firebase 삭제에 실패한 계정과 그 계정을 가진 member 는 남겨서 다음 실행에서 다시 처리
+                    log.error("Failed to delete {} Firebase accounts, retry next run: {}", failedUids.size(), failedUids);
+                    Set<Long> retainedMemberIds = new HashSet<>();
+                    Set<String> retainedAccountUids = new HashSet<>();
+                    List<Object[]> links = memberAccountRepository.findMemberIdAndAccountUidByMemberIds(expiredMemberIds);
+                    Set<String> failed = new HashSet<>(failedUids);
+                    links.stream().filter(link -> failed.contains((String) link[1])).forEach(link -> retainedMemberIds.add((Long) link[0]));
+                    links.stream().filter(link -> retainedMemberIds.contains((Long) link[0])).forEach(link -> retainedAccountUids.add((String) link[1]));
+                    memberIdsToDelete = expiredMemberIds.stream().filter(id -> !retainedMemberIds.contains(id)).toList();
+                    accountUidsToDelete = accountUids.stream().filter(uid -> !retainedAccountUids.contains(uid)).toList();
+                    if (memberIdsToDelete.isEmpty()) continue;
+                }
+                gmailWatchRenewalScheduler.unregisterAccounts(accountUidsToDelete);
 
-        // 6. Delete Firebase accounts
-        FirebaseAuth firebaseAuth = FirebaseAuth.getInstance();
-        for (String uid : accountUidsToDelete) {
-            try {
-                firebaseAuth.deleteUser(uid);
-                log.info("Deleted Firebase account: {}", uid);
-            } catch (FirebaseAuthException e) {
-                log.error("Failed to delete Firebase account: " + uid, e);
+                // 4. Delete MemberAccounts, Members, Accounts of this chunk in one short transaction
+                deleted = deleteChunk(memberIdsToDelete, accountUidsToDelete);
+            } catch (Exception e) {
+                log.error("Failed to clean up expired members, resume next run. Deleted {} members so far", totalMembers, e);
+                break;
             }
+            log.info("Deleted {} MemberAccounts, {} members, {} accounts", deleted[0], deleted[1], deleted[2]);
+            if (deleted[1] == 0) break; // 다른 서버가 같은 chunk 를 처리 중
+            totalMembers += deleted[1];
+            totalAccounts += deleted[2];
         }
+
+        if (totalMembers == 0) {
+            log.info("No expired members found");
+            return;
+        }
+        accountContextCache.evictAll();
+        log.info("Hard deleted {} expired members and {} associated accounts", totalMembers, totalAccounts);
+    }
+
+    private int[] deleteChunk(List<Long> memberIds, List<String> accountUids) {
+        return transactionTemplate.execute(status -> new int[]{
+                memberAccountRepository.bulkDeleteByMemberIds(memberIds),
+                memberRepository.bulkDeleteByIds(memberIds),
+                accountUids.isEmpty() ? 0 : accountRepository.bulkDeleteByUids(accountUids)
+        });
     }
 }
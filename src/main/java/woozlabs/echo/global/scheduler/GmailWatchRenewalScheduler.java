@@ -0,0 +1,160 @@
+package woozlabs.echo.global.scheduler;
+
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.WatchRequest;
+import com.google.api.services.gmail.model.WatchResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.gmail.entity.PubSubHistory;
+import woozlabs.echo.domain.gmail.repository.PubSubHistoryRepository;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static woozlabs.echo.global.constant.GlobalConstant.PUB_SUB_TOPIC_NAME;
+import static woozlabs.echo.global.constant.GlobalConstant.USER_ID;
+
+/**
+ * Gmail watch 는 7일 뒤 만료되므로 만료 시각 순서의 priority queue 로 만료 전에 서버에서 갱신한다.
+ * 갱신 시각은 만료 renew-before-hours 전에서 계정별 jitter(최대 renew-jitter-hours)만큼 앞당겨
+ * 같은 날 등록된 watch 들이 한꺼번에 갱신되지 않게 하고, tick 당 갱신 개수도 제한한다.
+ * 여러 서버에서 동시에 갱신해도 watch 는 덮어써지므로 만료 시각만 compare-and-set 으로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GmailWatchRenewalScheduler {
+
+    private static final long RETRY_DELAY_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final Duration RENEWAL_TICK_INTERVAL = Duration.ofSeconds(10);
+
+    private final PubSubHistoryRepository pubSubHistoryRepository;
+    private final GmailUtility gmailUtility;
+    @Qualifier("watchRenewalTaskScheduler")
+    private final TaskScheduler watchRenewalTaskScheduler;
+    private final PriorityBlockingQueue<WatchDeadline> renewalQueue =
+            new PriorityBlockingQueue<>(64, Comparator.comparingLong(WatchDeadline::getRenewAt));
+    // pubSubHistoryId -> queue 에 있는 최신 만료 시각 (이전 값으로 들어간 항목은 무시)
+    private final ConcurrentHashMap<Long, Long> queuedExpirations = new ConcurrentHashMap<>();
+
+    @Value("${gmail.watch.renew-before-hours:24}")
+    private long renewBeforeHours;
+
+    @Value("${gmail.watch.renew-jitter-hours:12}")
+    private long renewJitterHours;
+
+    @Value("${gmail.watch.max-renewals-per-tick:10}")
+    private int maxRenewalsPerTick;
+
+    // 다른 서버에서 등록/갱신된 watch 도 반영하도록 주기적으로 다시 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 * * * ?")
+    public void reload() {
+        List<Object[]> watches = pubSubHistoryRepository.findWatchExpirations();
+        watches.forEach(row -> register((Long) row[0], (Long) row[1]));
+        log.info("Loaded {} Gmail watches for renewal", watches.size());
+    }
+
+    public void register(Long pubSubHistoryId, Long expiration) {
+        if (expiration == null) return;
+        Long previous = queuedExpirations.put(pubSubHistoryId, expiration);
+        if (expiration.equals(previous)) return;
+        renewalQueue.add(new WatchDeadline(pubSubHistoryId, expiration, getRenewAt(pubSubHistoryId, expiration)));
+    }
+
+    public void unregister(Long pubSubHistoryId) {
+        queuedExpirations.remove(pubSubHistoryId);
+    }
+
+    // watch 중지, 계정 삭제 시 호출 (pub_sub_history 가 cascade 로 지워지기 전에 호출해야 함)
+    public void unregisterAccounts(Collection<String> accountUids) {
+        if (accountUids.isEmpty() || queuedExpirations.isEmpty()) return;
+        pubSubHistoryRepository.findIdsByAccountUids(accountUids).forEach(this::unregister);
+    }
+
+    // Gmail 호출이 있는 tick 은 @Scheduled 작업들과 스레드를 공유하지 않도록 전용 scheduler 에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRenewalTick() {
+        watchRenewalTaskScheduler.scheduleWithFixedDelay(this::renewDueWatches, RENEWAL_TICK_INTERVAL);
+    }
+
+    public void renewDueWatches() {
+        int renewed = 0;
+        while (renewed < maxRenewalsPerTick) {
+            WatchDeadline head = renewalQueue.peek();
+            if (head == null || head.getRenewAt() > System.currentTimeMillis()) return;
+            WatchDeadline deadline = renewalQueue.poll();
+            if (deadline == null) return;
+            if (!deadline.getExpiration().equals(queuedExpirations.get(deadline.getPubSubHistoryId()))) continue; // 이미 갱신/중지됨
+            renew(deadline);
+            renewed++;
+        }
+    }
+
+    private void renew(WatchDeadline deadline) {
+        Long pubSubHistoryId = deadline.getPubSubHistoryId();
+        try {
+            Optional<PubSubHistory> found = pubSubHistoryRepository.findWithAccountById(pubSubHistoryId);
+            if (found.isEmpty() || found.get().getWatchExpiration() == null) {
+                queuedExpirations.remove(pubSubHistoryId, deadline.getExpiration());
+                return;
+            }
+            PubSubHistory pubSubHistory = found.get();
+            if (!pubSubHistory.getWatchExpiration().equals(deadline.getExpiration())) {
+                register(pubSubHistoryId, pubSubHistory.getWatchExpiration()); // 다른 서버가 먼저 갱신
+                return;
+            }
+            List<String> labelIds = pubSubHistory.getWatchLabelIdList();
+            Gmail gmailService = gmailUtility.createGmailService(pubSubHistory.getAccount().getAccessToken());
+            WatchRequest watchRequest = new WatchRequest()
+                    .setLabelIds(labelIds.isEmpty() ? null : labelIds)
+                    .setLabelFilterBehavior("include")
+                    .setTopicName(PUB_SUB_TOPIC_NAME);
+            // history cursor 는 그대로 두고 만료 시각만 갱신
+            WatchResponse watchResponse = gmailService.users().watch(USER_ID, watchRequest).execute();
+            pubSubHistoryRepository.compareAndSetWatchExpiration(pubSubHistoryId, deadline.getExpiration(), watchResponse.getExpiration());
+            register(pubSubHistoryId, watchResponse.getExpiration());
+        } catch (Exception e) {
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+            if (retryAt > deadline.getExpiration()) {
+                // 만료 전에 갱신하지 못하면 client 가 다시 watch 할 때까지 포기
+                log.error("Failed to renew Gmail watch before expiration, pubSubHistoryId: {}", pubSubHistoryId, e);
+                queuedExpirations.remove(pubSubHistoryId, deadline.getExpiration());
+                return;
+            }
+            log.warn("Failed to renew Gmail watch, retry later. pubSubHistoryId: {}, cause: {}", pubSubHistoryId, e.getMessage());
+            renewalQueue.add(new WatchDeadline(pubSubHistoryId, deadline.getExpiration(), retryAt));
+        }
+    }
+
+    // 계정별로 고정된 jitter 를 사용해 reload 해도 갱신 시각이 바뀌지 않게 함
+    private long getRenewAt(Long pubSubHistoryId, long expiration) {
+        long jitterRangeMs = TimeUnit.HOURS.toMillis(renewJitterHours);
+        long jitterMs = jitterRangeMs == 0 ? 0 : Math.floorMod(Long.hashCode(pubSubHistoryId) * 0x9E3779B1L, jitterRangeMs);
+        return expiration - TimeUnit.HOURS.toMillis(renewBeforeHours) - jitterMs;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class WatchDeadline {
+        private final Long pubSubHistoryId;
+        private final Long expiration;
+        private final long renewAt;
+    }
+}
@@ -1,19 +1,111 @@
 package woozlabs.echo.global.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 검증한 ID token 을 token hash 로 exp 까지 보관해서, 같은 token 은 처음 한 번만 서명을 검증한다.
+ * 폐기(revoke) 여부는 revocation-check-seconds 마다 checkRevoked 로 다시 확인한다.
+ */
 @Component
 public class FirebaseTokenVerifier {
 
-    public FirebaseToken verifyToken(String idToken) throws FirebaseAuthException {
-        return FirebaseAuth.getInstance().verifyIdToken(idToken);
+    private final Supplier<FirebaseAuth> firebaseAuth;
+    private final Clock clock;
+    private final long revocationCheckMillis;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public FirebaseTokenVerifier(@Value("${firebase.token.revocation-check-seconds:300}") long revocationCheckSeconds) {
+        this(FirebaseAuth::getInstance, Clock.systemUTC(), revocationCheckSeconds);
+    }
+
+    FirebaseTokenVerifier(Supplier<FirebaseAuth> firebaseAuth, Clock clock, long revocationCheckSeconds) {
+        this.firebaseAuth = firebaseAuth;
+        this.clock = clock;
+        this.revocationCheckMillis = TimeUnit.SECONDS.toMillis(revocationCheckSeconds);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getExpiresAtMillis() - clock.millis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String verifyTokenAndGetUid(String idToken) throws FirebaseAuthException {
-        FirebaseToken decodedToken = verifyToken(idToken);
+        String key = hash(idToken);
+        long now = clock.millis();
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiresAtMillis() > now) {
+            if (now - cached.getCheckedAtMillis() < revocationCheckMillis) {
+                return cached.getUid();
+            }
+        }
+        FirebaseToken decodedToken;
+        try {
+            // 처음 보는 token 은 서명만, 캐시된 token 은 주기적으로 폐기 여부까지 확인
+            decodedToken = cached == null
+                    ? firebaseAuth.get().verifyIdToken(idToken)
+                    : firebaseAuth.get().verifyIdToken(idToken, true);
+        } catch (FirebaseAuthException e) {
+            verifiedTokens.invalidate(key);
+            throw e;
+        }
+        verifiedTokens.put(key, new VerifiedToken(decodedToken.getUid(), getExpiresAtMillis(decodedToken), now));
         return decodedToken.getUid();
     }
+
+    private static long getExpiresAtMillis(FirebaseToken decodedToken) {
+        Object exp = decodedToken.getClaims().get("exp");
+        return exp instanceof Number seconds ? TimeUnit.SECONDS.toMillis(seconds.longValue()) : 0;
+    }
+
+    // token 원문을 메모리에 남기지 않음
+    private static String hash(String idToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(idToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class VerifiedToken {
+        private final String uid;
+        private final long expiresAtMillis;
+        private final long checkedAtMillis;
+    }
 }
@@ -0,0 +1,114 @@
+package woozlabs.echo.global.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.OAuth2Credentials;
+import com.google.auth.oauth2.OAuth2CredentialsWithRefresh;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+import woozlabs.echo.global.scheduler.AccessTokenRefresher;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Google API 호출용 credential 을 만든다. Google 이 401 을 반환하면 HttpCredentialsAdapter 가
+ * refresh handler 로 새 token 을 받아 원래 요청을 한 번 다시 보낸다.
+ * 같은 token 으로 동시에 들어온 요청들은 하나의 refresh 결과를 기다리고(single-flight),
+ * 새 token 은 DB 에 저장한 뒤 AccessTokenRefresher 에 다시 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleAccessTokenProvider {
+
+    private final AccountRepository accountRepository;
+    private final GoogleOAuthUtils googleOAuthUtils;
+    private final AccessTokenRefresher accessTokenRefresher;
+    private final AccountContextCache accountContextCache;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlightRefreshes = new ConcurrentHashMap<>();
+    // refresh 가 끝난 직후 이전 token 으로 들어온 요청도 다시 refresh 하지 않도록 잠시 보관
+    private final Cache<String, String> refreshedTokens = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    public OAuth2Credentials createCredentials(String accessToken, List<String> scopes) {
+        return OAuth2CredentialsWithRefresh.newBuilder()
+                .setAccessToken(toAccessToken(accessToken, scopes))
+                .setRefreshHandler(() -> {
+                    try {
+                        return toAccessToken(refresh(accessToken), scopes);
+                    } catch (RuntimeException e) {
+                        // refresh 에 실패하면 원래 401 응답을 그대로 돌려주도록 IOException 으로 전달
+                        throw new IOException(e);
+                    }
+                })
+                .build();
+    }
+
+    private AccessToken toAccessToken(String tokenValue, List<String> scopes) {
+        AccessToken.Builder builder = AccessToken.newBuilder().setTokenValue(tokenValue);
+        if (scopes != null) builder.setScopes(scopes);
+        return builder.build();
+    }
+
+    public String refresh(String staleAccessToken) {
+        String refreshed = refreshedTokens.getIfPresent(staleAccessToken);
+        if (refreshed != null) return refreshed;
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlightRefreshes.putIfAbsent(staleAccessToken, created);
+        if (existing != null) return await(existing);
+        try {
+            String newAccessToken = refreshAndSave(staleAccessToken);
+            refreshedTokens.put(staleAccessToken, newAccessToken);
+            created.complete(newAccessToken);
+            return newAccessToken;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefreshes.remove(staleAccessToken, created);
+        }
+    }
+
+    private String refreshAndSave(String staleAccessToken) {
+        Account account = accountRepository.findByAccessToken(staleAccessToken)
+                .orElseThrow(() -> new CustomErrorException(ErrorCode.INVALID_ACCESS_TOKEN));
+        Map<String, String> newTokens = googleOAuthUtils.refreshAccessToken(account.getRefreshToken());
+        String newAccessToken = newTokens == null ? null : newTokens.get("access_token");
+        if (newAccessToken == null) {
+            throw new CustomErrorException(ErrorCode.FAILED_TO_REFRESH_GOOGLE_TOKEN);
+        }
+        LocalDateTime fetchedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        accountRepository.updateAccessToken(account.getId(), newAccessToken, fetchedAt);
+        accessTokenRefresher.schedule(account.getId(), fetchedAt);
+        accountContextCache.evictAccount(account.getId());
+        log.info("Refreshed access token on demand, Account ID: {}", account.getId());
+        return newAccessToken;
+    }
+
+    private String await(CompletableFuture<String> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package woozlabs.echo.global.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -14,9 +17,9 @@ import org.springframework.web.client.RestTemplate;
 import woozlabs.echo.global.exception.CustomErrorException;
 import woozlabs.echo.global.exception.ErrorCode;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
 
 @Slf4j
 @Component
@@ -25,6 +28,20 @@ public class GoogleOAuthUtils {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    @Qualifier("googleTokenInfoRestTemplate")
+    private RestTemplate googleTokenInfoRestTemplate;
+
+    @Autowired
+    @Qualifier("googleOAuthExecutor")
+    private Executor googleOAuthExecutor;
+
+    // access token 별 scope, token 이 갱신되거나 재동의로 바뀌면 key 가 달라지므로 token 수명만큼만 보관
+    private final Cache<String, List<String>> grantedScopes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(60))
+            .build();
+
     @Value("${google.client-id}")
     private String clientId;
 
@@ -123,10 +140,67 @@ public class GoogleOAuthUtils {
     }
 
     public List<String> getGrantedScopes(String accessToken) {
+        List<String> cached = accessToken == null ? null : grantedScopes.getIfPresent(accessToken);
+        if (cached != null) return cached;
+        List<String> scopes = fetchGrantedScopes(accessToken);
+        grantedScopes.put(accessToken, scopes);
+        return scopes;
+    }
+
+    /**
+     * 여러 token 의 scope 를 병렬로 조회한다. timeout 안에 끝나지 않았거나 executor 가 가득 차 조회하지 못한 token 은
+     * null(알 수 없음)로 반환하고, Google 이 거절한 token 은 단건 조회와 같이 FAILED_TO_FETCH_GOOGLE_SCOPES 를 던진다.
+     */
+    public Map<String, List<String>> getGrantedScopes(Collection<String> accessTokens, Duration timeout) {
+        Map<String, CompletableFuture<List<String>>> lookups = new LinkedHashMap<>();
+        for (String accessToken : accessTokens) {
+            lookups.computeIfAbsent(accessToken, this::lookupGrantedScopes);
+        }
+        try {
+            CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Granted scope lookups did not finish in {}ms", timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomErrorException(ErrorCode.FAILED_TO_FETCH_GOOGLE_SCOPES, "Interrupted while getting granted scopes", e);
+        } catch (ExecutionException e) {
+            // 실패한 token 은 아래에서 예외를 다시 던짐
+        }
+
+        Map<String, List<String>> result = new HashMap<>();
+        for (Map.Entry<String, CompletableFuture<List<String>>> lookup : lookups.entrySet()) {
+            CompletableFuture<List<String>> future = lookup.getValue();
+            if (!future.isDone()) {
+                // 진행 중인 조회는 read timeout 안에 끝나고, 결과는 cache 에만 반영됨
+                result.put(lookup.getKey(), null);
+                continue;
+            }
+            try {
+                result.put(lookup.getKey(), future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof CustomErrorException cause) throw cause;
+                throw new CustomErrorException(ErrorCode.FAILED_TO_FETCH_GOOGLE_SCOPES, "Failed to get granted scopes", e.getCause());
+            }
+        }
+        return result;
+    }
+
+    // 요청 스레드에서 대신 실행하지 않도록 executor 가 거절하면 바로 null(알 수 없음)로 처리
+    private CompletableFuture<List<String>> lookupGrantedScopes(String accessToken) {
+        try {
+            return CompletableFuture.supplyAsync(() -> getGrantedScopes(accessToken), googleOAuthExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Granted scope lookup rejected, executor is busy");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private List<String> fetchGrantedScopes(String accessToken) {
         String tokenInfoUrl = "https://oauth2.googleapis.com/tokeninfo?access_token=" + accessToken;
 
         try {
-            ResponseEntity<Map> responseEntity = restTemplate.getForEntity(tokenInfoUrl, Map.class);
+            ResponseEntity<Map> responseEntity = googleTokenInfoRestTemplate.getForEntity(tokenInfoUrl, Map.class);
             if (responseEntity.getStatusCode().is2xxSuccessful()) {
                 Map<String, Object> tokenInfo = responseEntity.getBody();
                 if (tokenInfo != null && tokenInfo.containsKey("scope")) {
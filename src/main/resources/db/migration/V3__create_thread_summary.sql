@@ -0,0 +1,14 @@
+-- Thread Summary
+CREATE TABLE IF NOT EXISTS `thread_summary` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `created_at` DATETIME(6),
+    `updated_at` DATETIME(6),
+    `account_id` BIGINT,
+    `thread_id` VARCHAR(255),
+    `summary` TEXT,
+    `last_message_id` VARCHAR(255),
+    `history_id` DECIMAL(38,0),
+    PRIMARY KEY (`id`),
+    UNIQUE (`account_id`, `thread_id`),
+    FOREIGN KEY (`account_id`) REFERENCES `account` (`id`) ON DELETE CASCADE
+    ) ENGINE=InnoDB;
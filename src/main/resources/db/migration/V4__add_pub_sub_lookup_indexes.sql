@@ -0,0 +1,3 @@
+-- webhook 의 account 조회용 인덱스
+-- pub_sub_history.account_id(unique), fcm_token.account_id(FK) 는 이미 인덱스가 있으므로 추가하지 않음
+CREATE INDEX `idx_account_email` ON `account` (`email`);
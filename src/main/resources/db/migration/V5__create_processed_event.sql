@@ -0,0 +1,9 @@
+-- Pub/Sub, Gmail history 중복 처리 방지용 key
+CREATE TABLE IF NOT EXISTS `processed_event` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `event_key` VARCHAR(191) NOT NULL,
+    `expires_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE (`event_key`),
+    INDEX `idx_processed_event_expires_at` (`expires_at`)
+    ) ENGINE=InnoDB;
@@ -0,0 +1,5 @@
+-- Gmail watch 갱신용 만료 시각(epoch millis)과 label
+ALTER TABLE `pub_sub_history`
+    ADD COLUMN `watch_expiration` BIGINT,
+    ADD COLUMN `watch_label_ids` VARCHAR(255);
+CREATE INDEX `idx_pub_sub_history_watch_expiration` ON `pub_sub_history` (`watch_expiration`);
@@ -0,0 +1,8 @@
+-- 초대 대상 권한을 (shared_email_id, invitee_email) key 의 entity 로 관리하고, email 로 역조회
+CREATE TABLE IF NOT EXISTS `shared_email_invitee` (
+    `shared_email_id` BINARY(16) NOT NULL,
+    `invitee_email` VARCHAR(255) NOT NULL,
+    `permission` VARCHAR(255),
+    PRIMARY KEY (`shared_email_id`, `invitee_email`)
+);
+CREATE INDEX `idx_shared_email_invitee_email` ON `shared_email_invitee` (`invitee_email`);
@@ -0,0 +1,47 @@
+package woozlabs.echo.domain.calendar.service;
+
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.CalendarList;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.OAuth2Credentials;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.global.query.QueryCountTest;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@Import(CalendarService.class)
+class CalendarServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @MockBean
+    private GoogleAccessTokenProvider googleAccessTokenProvider;
+
+    @Test
+    @DisplayName("캘린더 목록 조회는 계정을 한 번만 조회합니다.")
+    void getCalendars() throws Exception {
+        // given
+        persistAccount("uid-1", "account@example.com");
+        doReturn(OAuth2Credentials.create(AccessToken.newBuilder().setTokenValue("token").build()))
+                .when(googleAccessTokenProvider).createCredentials(any(), anyList());
+        Calendar calendar = mock(Calendar.class, RETURNS_DEEP_STUBS);
+        when(calendar.calendarList().list().execute()).thenReturn(new CalendarList().setItems(List.of()));
+
+        try (MockedConstruction<Calendar.Builder> ignored = mockConstruction(Calendar.Builder.class,
+                withSettings().defaultAnswer(RETURNS_SELF), (builder, context) -> doReturn(calendar).when(builder).build())) {
+            // when, then: account(+sidebarConfig)
+            assertMaxQueries(2, () -> calendarService.getCalendars("uid-1"));
+        }
+    }
+}
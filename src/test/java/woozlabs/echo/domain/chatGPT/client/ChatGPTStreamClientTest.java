@@ -0,0 +1,85 @@
+package woozlabs.echo.domain.chatGPT.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import woozlabs.echo.domain.chatGPT.dto.ChatGPTRequest;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ChatGPTStreamClientTest {
+
+    private MockRestServiceServer server;
+    private ChatGPTStreamClient chatGPTStreamClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://api.openai.com");
+        server = MockRestServiceServer.bindTo(builder).build();
+        chatGPTStreamClient = new ChatGPTStreamClient(builder.build(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("data 줄의 delta.content 만 순서대로 넘기고 [DONE] 이후는 읽지 않습니다.")
+    void relayDeltaContentUntilDone() {
+        // given
+        String body = """
+                : keep-alive
+
+                data: {"choices":[{"delta":{"role":"assistant"}}]}
+
+                data: {"choices":[{"delta":{"content":"Hello"}}]}
+
+                data:{"choices":[{"delta":{"content":" world"}}]}
+
+                data: {"choices":[{"delta":{"content":""}}]}
+
+                data: [DONE]
+
+                data: {"choices":[{"delta":{"content":"ignored"}}]}
+                """;
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(body, MediaType.TEXT_EVENT_STREAM));
+        List<String> tokens = new ArrayList<>();
+
+        // when
+        chatGPTStreamClient.streamChatCompletion(new ChatGPTRequest("gpt-4o", "prompt", true), tokens::add);
+
+        // then
+        assertThat(tokens).containsExactly("Hello", " world");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("오류 응답이면 token 을 넘기지 않고 예외를 던집니다.")
+    void throwOnErrorStatus() {
+        // given
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        List<String> tokens = new ArrayList<>();
+
+        // when, then
+        assertThatThrownBy(() -> chatGPTStreamClient.streamChatCompletion(new ChatGPTRequest("gpt-4o", "prompt", true), tokens::add))
+                .isInstanceOf(CustomErrorException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.FAILED_TO_CHATGPT_COMPLETION);
+        assertThat(tokens).isEmpty();
+    }
+}
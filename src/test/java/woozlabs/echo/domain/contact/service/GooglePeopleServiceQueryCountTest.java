@@ -0,0 +1,63 @@
+package woozlabs.echo.domain.contact.service;
+
+import com.google.api.services.people.v1.PeopleService;
+import com.google.api.services.people.v1.model.ListOtherContactsResponse;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.OAuth2Credentials;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.global.query.QueryCountTest;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.GeneralSecurityException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Import(GooglePeopleService.class)
+class GooglePeopleServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private GooglePeopleService googlePeopleService;
+
+    @MockBean
+    private GoogleAccessTokenProvider googleAccessTokenProvider;
+
+    @Test
+    @DisplayName("다른 연락처 조회는 access token 만 한 번 조회합니다.")
+    void getOtherContacts() throws Exception {
+        // given
+        persistAccount("uid-1", "account@example.com");
+        doReturn(OAuth2Credentials.create(AccessToken.newBuilder().setTokenValue("token").build()))
+                .when(googleAccessTokenProvider).createCredentials(any(), any());
+        PeopleService peopleService = mock(PeopleService.class, RETURNS_DEEP_STUBS);
+        when(peopleService.otherContacts().list()
+                .setPageSize(anyInt())
+                .setReadMask(anyString())
+                .setPageToken(any())
+                .execute()).thenReturn(new ListOtherContactsResponse().setOtherContacts(List.of()));
+
+        try (MockedConstruction<PeopleService.Builder> ignored = mockConstruction(PeopleService.Builder.class,
+                withSettings().defaultAnswer(RETURNS_SELF), (builder, context) -> doReturn(peopleService).when(builder).build())) {
+            // when, then: access token 만 조회
+            assertMaxQueries(1, () -> {
+                try {
+                    googlePeopleService.getOtherContacts("uid-1");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+}
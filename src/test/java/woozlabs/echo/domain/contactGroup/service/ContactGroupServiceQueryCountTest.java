@@ -0,0 +1,35 @@
+package woozlabs.echo.domain.contactGroup.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.contactGroup.entity.ContactGroup;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.global.query.QueryCountTest;
+
+@Import(ContactGroupService.class)
+class ContactGroupServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private ContactGroupService contactGroupService;
+
+    @Test
+    @DisplayName("연락처 그룹 목록 조회는 그룹/이메일 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void getContactGroupsByOwner() {
+        // given
+        Account owner = persistAccount("uid-1", "owner@example.com");
+        for (int idx = 0; idx < 10; idx++) {
+            ContactGroup contactGroup = new ContactGroup();
+            contactGroup.setName("Group" + idx);
+            contactGroup.setOwner(owner);
+            contactGroup.addAccount(owner);
+            contactGroup.addEmail("a" + idx + "@example.com");
+            contactGroup.addEmail("b" + idx + "@example.com");
+            em.persist(contactGroup);
+        }
+
+        // when, then: owner(+sidebarConfig), groups with emails
+        assertMaxQueries(3, () -> contactGroupService.getContactGroupsByOwner("uid-1"));
+    }
+}
@@ -0,0 +1,37 @@
+package woozlabs.echo.domain.echo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.echo.entity.EmailRecipient;
+import woozlabs.echo.domain.echo.entity.EmailTemplate;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.global.query.QueryCountTest;
+
+@Import(EmailTemplateService.class)
+class EmailTemplateServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private EmailTemplateService emailTemplateService;
+
+    @Test
+    @DisplayName("템플릿 목록 조회는 템플릿/수신자 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void getAllTemplates() {
+        // given
+        Account account = persistAccount("uid-1", "owner@example.com");
+        for (int idx = 0; idx < 10; idx++) {
+            EmailTemplate emailTemplate = new EmailTemplate();
+            emailTemplate.setTemplateName("Template" + idx);
+            emailTemplate.setSubject("Subject" + idx);
+            emailTemplate.setBody("Body" + idx);
+            emailTemplate.setAccount(account);
+            emailTemplate.addRecipient("to" + idx + "@example.com", EmailRecipient.RecipientType.TO);
+            emailTemplate.addRecipient("cc" + idx + "@example.com", EmailRecipient.RecipientType.CC);
+            em.persist(emailTemplate);
+        }
+
+        // when, then: account(+sidebarConfig), templates with recipients
+        assertMaxQueries(3, () -> emailTemplateService.getAllTemplates("uid-1"));
+    }
+}
@@ -0,0 +1,82 @@
+package woozlabs.echo.domain.gemini.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import woozlabs.echo.domain.gemini.dto.GeminiRequest;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GeminiStreamClientTest {
+
+    private static final String STREAM_URL =
+            "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:streamGenerateContent?alt=sse";
+
+    private MockRestServiceServer server;
+    private GeminiStreamClient geminiStreamClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://generativelanguage.googleapis.com");
+        server = MockRestServiceServer.bindTo(builder).build();
+        geminiStreamClient = new GeminiStreamClient(builder.build(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("chunk 마다 candidates[0] 의 모든 part text 를 순서대로 넘깁니다.")
+    void relayAllPartTexts() {
+        // given
+        String body = """
+                data: {"candidates":[{"content":{"parts":[{"text":"Hello"},{"text":", "}],"role":"model"}}]}
+
+                event: ignored
+
+                data: {"candidates":[{"content":{"parts":[{"text":"world"}]}},{"content":{"parts":[{"text":"other candidate"}]}}]}
+
+                data: {"candidates":[{"content":{"parts":[{"text":""}]},"finishReason":"STOP"}],"usageMetadata":{"totalTokenCount":3}}
+                """;
+        server.expect(requestTo(STREAM_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(body, MediaType.TEXT_EVENT_STREAM));
+        List<String> tokens = new ArrayList<>();
+
+        // when
+        geminiStreamClient.streamGenerateContent("gemini-1.5-flash", new GeminiRequest("prompt"), tokens::add);
+
+        // then
+        assertThat(tokens).containsExactly("Hello", ", ", "world");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("오류 응답이면 token 을 넘기지 않고 예외를 던집니다.")
+    void throwOnErrorStatus() {
+        // given
+        server.expect(requestTo(STREAM_URL))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        List<String> tokens = new ArrayList<>();
+
+        // when, then
+        assertThatThrownBy(() -> geminiStreamClient.streamGenerateContent("gemini-1.5-flash", new GeminiRequest("prompt"), tokens::add))
+                .isInstanceOf(CustomErrorException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.FAILED_TO_GEMINI_COMPLETION);
+        assertThat(tokens).isEmpty();
+    }
+}
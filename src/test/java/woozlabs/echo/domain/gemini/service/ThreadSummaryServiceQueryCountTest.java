@@ -0,0 +1,112 @@
+package woozlabs.echo.domain.gemini.service;
+
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Thread;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.gemini.entity.ThreadSummary;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetMessagesResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetResponse;
+import woozlabs.echo.domain.gmail.service.GmailService;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.global.query.QueryCountTest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+@Import(ThreadSummaryService.class)
+class ThreadSummaryServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private ThreadSummaryService threadSummaryService;
+
+    @MockBean
+    private GeminiService geminiService;
+
+    @MockBean
+    private GmailService gmailService;
+
+    @Test
+    @DisplayName("저장된 요약이 최신이면 요약 조회 한 번으로 처리됩니다.")
+    void summarizeUnchangedThread() throws Exception {
+        // given
+        Account account = persistAccount("uid-1", "account@example.com");
+        persistSummary(account, "m2");
+        doReturn(new Thread().setHistoryId(BigInteger.ONE).setMessages(List.of(new Message().setId("m1"), new Message().setId("m2"))))
+                .when(gmailService).getThreadMessageIds(any(), anyString());
+
+        // when, then: thread summary
+        assertMaxQueries(1, () -> summarize(account));
+    }
+
+    @Test
+    @DisplayName("새 메시지가 있으면 요약 조회와 갱신만 실행합니다.")
+    void summarizeChangedThread() throws Exception {
+        // given
+        Account account = persistAccount("uid-1", "account@example.com");
+        persistSummary(account, "m1");
+        doReturn(new Thread().setHistoryId(BigInteger.TEN).setMessages(List.of(new Message().setId("m1"), new Message().setId("m2"))))
+                .when(gmailService).getThreadMessageIds(any(), anyString());
+        doReturn(createThread("m1", "m2")).when(gmailService).getUserEmailThread(any(), anyString());
+        doReturn("new summary").when(geminiService).summarizeThreadIncrementally(anyString(), anyList());
+
+        // when, then: thread summary, update
+        assertMaxQueries(2, () -> summarize(account));
+    }
+
+    @Test
+    @DisplayName("처음 요약하는 thread 는 요약 조회와 저장만 실행합니다.")
+    void summarizeNewThread() {
+        // given
+        Account account = persistAccount("uid-1", "account@example.com");
+        doReturn(createThread("m1", "m2")).when(gmailService).getUserEmailThread(any(), anyString());
+        doReturn("summary").when(geminiService).summarizeGmailThread(any());
+
+        // when, then: thread summary, insert
+        assertMaxQueries(2, () -> summarize(account));
+    }
+
+    private void summarize(Account account) {
+        try {
+            threadSummaryService.summarize(account, "thread-1");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void persistSummary(Account account, String lastMessageId) {
+        em.persist(ThreadSummary.builder()
+                .account(account)
+                .threadId("thread-1")
+                .summary("stored summary")
+                .lastMessageId(lastMessageId)
+                .historyId(BigInteger.ONE)
+                .build());
+    }
+
+    private GmailThreadGetResponse createThread(String... messageIds) {
+        List<GmailThreadGetMessagesResponse> messages = Arrays.stream(messageIds)
+                .map(id -> {
+                    GmailThreadGetMessagesResponse message = new GmailThreadGetMessagesResponse();
+                    message.setId(id);
+                    return message;
+                })
+                .toList();
+        return GmailThreadGetResponse.builder()
+                .id("thread-1")
+                .historyId(BigInteger.TEN)
+                .messages(messages)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package woozlabs.echo.domain.gemini.service;
+
+import com.google.api.services.gmail.model.Message;
+import com.google.api.services.gmail.model.Thread;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import woozlabs.echo.domain.gemini.entity.ThreadSummary;
+import woozlabs.echo.domain.gemini.repository.ThreadSummaryRepository;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetMessagesResponse;
+import woozlabs.echo.domain.gmail.dto.thread.GmailThreadGetResponse;
+import woozlabs.echo.domain.gmail.service.GmailService;
+import woozlabs.echo.domain.member.entity.Account;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThreadSummaryServiceTest {
+
+    @InjectMocks
+    private ThreadSummaryService threadSummaryService;
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private ThreadSummaryRepository threadSummaryRepository;
+
+    @Mock
+    private GmailService gmailService;
+
+    private Account mockAccount;
+
+    @BeforeEach
+    void setUp() {
+        mockAccount = new Account();
+        mockAccount.setId(1L);
+        mockAccount.setUid("1234567891");
+    }
+
+    @Test
+    @DisplayName("새 메시지가 없으면 저장된 요약을 그대로 반환합니다.")
+    void returnStoredSummaryWhenUnchanged() {
+        // given
+        GmailThreadGetResponse thread = createThread("m1", "m2");
+        ThreadSummary stored = createStoredSummary("m2", "stored summary");
+        doReturn(Optional.of(stored)).when(threadSummaryRepository).findByAccountAndThreadId(mockAccount, "thread-1");
+
+        // when
+        String summary = threadSummaryService.summarize(mockAccount, thread);
+
+        // then
+        assertThat(summary).isEqualTo("stored summary");
+        verifyNoInteractions(geminiService);
+        verify(threadSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("새 메시지만 이전 요약과 함께 보내 요약을 갱신합니다.")
+    void summarizeOnlyNewMessages() {
+        // given
+        GmailThreadGetResponse thread = createThread("m1", "m2", "m3");
+        ThreadSummary stored = createStoredSummary("m1", "old summary");
+        doReturn(Optional.of(stored)).when(threadSummaryRepository).findByAccountAndThreadId(mockAccount, "thread-1");
+        doReturn("new summary").when(geminiService).summarizeThreadIncrementally(anyString(), anyList());
+
+        // when
+        String summary = threadSummaryService.summarize(mockAccount, thread);
+
+        // then
+        assertThat(summary).isEqualTo("new summary");
+        verify(geminiService).summarizeThreadIncrementally("old summary", thread.getMessages().subList(1, 3));
+        verify(threadSummaryRepository).save(stored);
+        assertThat(stored.getLastMessageId()).isEqualTo("m3");
+    }
+
+    @Test
+    @DisplayName("저장된 요약이 없으면 thread 전체를 요약해 저장합니다.")
+    void summarizeWholeThreadWhenNotStored() {
+        // given
+        GmailThreadGetResponse thread = createThread("m1", "m2");
+        doReturn(Optional.empty()).when(threadSummaryRepository).findByAccountAndThreadId(mockAccount, "thread-1");
+        doReturn("full summary").when(geminiService).summarizeGmailThread(thread);
+
+        // when
+        String summary = threadSummaryService.summarize(mockAccount, thread);
+
+        // then
+        assertThat(summary).isEqualTo("full summary");
+        verify(threadSummaryRepository).save(any(ThreadSummary.class));
+    }
+
+    @Test
+    @DisplayName("minimal 조회 결과 변경이 없으면 thread 전체를 가져오지 않고 저장된 요약을 반환합니다.")
+    void skipFullThreadFetchWhenUnchanged() throws Exception {
+        // given
+        mockAccount.setAccessToken("access-token");
+        ThreadSummary stored = createStoredSummary("m2", "stored summary");
+        doReturn(Optional.of(stored)).when(threadSummaryRepository).findByAccountAndThreadId(mockAccount, "thread-1");
+        Thread minimalThread = new Thread()
+                .setHistoryId(BigInteger.TEN)
+                .setMessages(List.of(new Message().setId("m1"), new Message().setId("m2")));
+        doReturn(minimalThread).when(gmailService).getThreadMessageIds("access-token", "thread-1");
+
+        // when
+        String summary = threadSummaryService.summarize(mockAccount, "thread-1");
+
+        // then
+        assertThat(summary).isEqualTo("stored summary");
+        verify(gmailService, never()).getUserEmailThread(anyString(), anyString());
+        verifyNoInteractions(geminiService);
+    }
+
+    @Test
+    @DisplayName("minimal 조회 결과 새 메시지가 있으면 thread 전체를 가져와 요약을 갱신합니다.")
+    void fetchFullThreadWhenChanged() throws Exception {
+        // given
+        mockAccount.setAccessToken("access-token");
+        ThreadSummary stored = createStoredSummary("m1", "old summary");
+        doReturn(Optional.of(stored)).when(threadSummaryRepository).findByAccountAndThreadId(mockAccount, "thread-1");
+        Thread minimalThread = new Thread()
+                .setHistoryId(BigInteger.TEN)
+                .setMessages(List.of(new Message().setId("m1"), new Message().setId("m2")));
+        doReturn(minimalThread).when(gmailService).getThreadMessageIds("access-token", "thread-1");
+        GmailThreadGetResponse thread = createThread("m1", "m2");
+        doReturn(thread).when(gmailService).getUserEmailThread("access-token", "thread-1");
+        doReturn("new summary").when(geminiService).summarizeThreadIncrementally(anyString(), anyList());
+
+        // when
+        String summary = threadSummaryService.summarize(mockAccount, "thread-1");
+
+        // then
+        assertThat(summary).isEqualTo("new summary");
+        assertThat(stored.getLastMessageId()).isEqualTo("m2");
+        assertThat(stored.getHistoryId()).isEqualTo(BigInteger.TEN);
+    }
+
+    private GmailThreadGetResponse createThread(String... messageIds) {
+        List<GmailThreadGetMessagesResponse> messages = Arrays.stream(messageIds)
+                .map(id -> {
+                    GmailThreadGetMessagesResponse message = new GmailThreadGetMessagesResponse();
+                    message.setId(id);
+                    return message;
+                })
+                .toList();
+        return GmailThreadGetResponse.builder()
+                .id("thread-1")
+                .historyId(BigInteger.TEN)
+                .messages(messages)
+                .build();
+    }
+
+    private ThreadSummary createStoredSummary(String lastMessageId, String summary) {
+        return ThreadSummary.builder()
+                .account(mockAccount)
+                .threadId("thread-1")
+                .summary(summary)
+                .lastMessageId(lastMessageId)
+                .historyId(BigInteger.ONE)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package woozlabs.echo.domain.gemini.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadChunkerTest {
+
+    @Test
+    @DisplayName("budget 안에 들어가는 메시지는 하나의 chunk 로 묶습니다.")
+    void chunkWithinBudget() {
+        // given
+        List<String> messages = List.of("hello", "world");
+
+        // when
+        List<String> chunks = ThreadChunker.chunk(messages, 100);
+
+        // then
+        assertThat(chunks).containsExactly("hello\n\nworld");
+    }
+
+    @Test
+    @DisplayName("budget 을 넘으면 메시지 경계에서 나누고, 너무 긴 메시지는 글자 수로 자릅니다.")
+    void chunkOverBudget() {
+        // given
+        String first = "a".repeat(30);
+        String second = "b".repeat(30);
+        String huge = "c".repeat(90);
+
+        // when
+        List<String> chunks = ThreadChunker.chunk(List.of(first, second, huge), 10);
+
+        // then
+        assertThat(chunks).containsExactly(first, second, "c".repeat(40), "c".repeat(40), "c".repeat(10));
+    }
+
+    @Test
+    @DisplayName("인용된 이전 메시지는 요약 대상에서 제거합니다.")
+    void stripQuotedReply() {
+        // given
+        String reply = """
+                Sounds good, see you then.
+
+                On Mon, Jul 1, 2024 at 3:00 PM Kim <kim@example.com> wrote:
+                > Can we meet on Friday?
+                """;
+
+        // when
+        String stripped = ThreadContentExtractor.stripQuotedReply(reply);
+
+        // then
+        assertThat(stripped.trim()).isEqualTo("Sounds good, see you then.");
+    }
+}
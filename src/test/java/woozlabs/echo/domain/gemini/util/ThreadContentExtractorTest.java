@@ -0,0 +1,35 @@
+package woozlabs.echo.domain.gemini.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadContentExtractorTest {
+
+    @Test
+    @DisplayName("본문 중간의 From: 줄은 인용으로 보지 않습니다.")
+    void keepFromLineInBody() {
+        // given
+        String body = "Please update the sender field:\nFrom: billing@example.com\nThanks";
+
+        // when
+        String stripped = ThreadContentExtractor.stripQuotedReply(body);
+
+        // then
+        assertThat(stripped).contains("From: billing@example.com").contains("Thanks");
+    }
+
+    @Test
+    @DisplayName("outlook 구분선 다음의 From: 헤더부터는 인용으로 제거합니다.")
+    void stripOutlookQuoteBlock() {
+        // given
+        String body = "Sounds good.\n\n________________________________\nFrom: Alex <alex@example.com>\nSent: Monday\nprevious message";
+
+        // when
+        String stripped = ThreadContentExtractor.stripQuotedReply(body);
+
+        // then
+        assertThat(stripped.trim()).isEqualTo("Sounds good.");
+    }
+}
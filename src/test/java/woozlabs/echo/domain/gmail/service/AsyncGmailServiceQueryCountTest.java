@@ -0,0 +1,43 @@
+package woozlabs.echo.domain.gmail.service;
+
+import com.google.api.services.gmail.Gmail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.gmail.dto.draft.GmailDraftCommonRequest;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+import woozlabs.echo.global.query.QueryCountTest;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// @EnableAsync 가 없는 context 이므로 @Async 메서드도 호출한 스레드에서 실행된다
+@Import(AsyncGmailService.class)
+class AsyncGmailServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private AsyncGmailService asyncGmailService;
+
+    @MockBean
+    private GmailUtility gmailUtility;
+
+    @Test
+    @DisplayName("답장 초안 생성은 계정을 한 번만 조회합니다.")
+    void createDraftForReplyTemplate() throws Exception {
+        // given
+        persistAccount("uid-1", "account@example.com");
+        Gmail gmail = mock(Gmail.class, RETURNS_DEEP_STUBS);
+        doReturn(gmail).when(gmailUtility).createGmailService(any());
+        when(gmail.users().getProfile(anyString()).execute()).thenThrow(new IOException("gmail unavailable"));
+
+        // when, then: account(+sidebarConfig)
+        assertMaxQueries(2, () -> assertThrows(IOException.class,
+                () -> asyncGmailService.createDraftForReplyTemplate("uid-1", new GmailDraftCommonRequest(), "thread-1")));
+    }
+}
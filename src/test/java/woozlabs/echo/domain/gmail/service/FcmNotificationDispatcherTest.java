@@ -0,0 +1,65 @@
+package woozlabs.echo.domain.gmail.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class FcmNotificationDispatcherTest {
+
+    @Test
+    @DisplayName("UNREGISTERED, INVALID_ARGUMENT 로 실패한 토큰만 삭제 대상입니다.")
+    void findDeadTokens() {
+        // given
+        List<String> tokens = List.of("ok", "unregistered", "invalid", "unavailable");
+        BatchResponse response = createResponse(null, MessagingErrorCode.UNREGISTERED,
+                MessagingErrorCode.INVALID_ARGUMENT, MessagingErrorCode.UNAVAILABLE);
+
+        // when
+        List<String> deadTokens = FcmNotificationDispatcher.findDeadTokens(tokens, response);
+
+        // then
+        assertThat(deadTokens).containsExactlyInAnyOrder("unregistered", "invalid");
+    }
+
+    @Test
+    @DisplayName("모든 토큰이 INVALID_ARGUMENT 면 payload 문제로 보고 삭제하지 않습니다.")
+    void keepTokensWhenPayloadInvalid() {
+        // given
+        List<String> tokens = List.of("first", "second");
+        BatchResponse response = createResponse(MessagingErrorCode.INVALID_ARGUMENT, MessagingErrorCode.INVALID_ARGUMENT);
+
+        // when
+        List<String> deadTokens = FcmNotificationDispatcher.findDeadTokens(tokens, response);
+
+        // then
+        assertThat(deadTokens).isEmpty();
+    }
+
+    private BatchResponse createResponse(MessagingErrorCode... errorCodes) {
+        List<SendResponse> responses = new ArrayList<>();
+        for (MessagingErrorCode errorCode : errorCodes) {
+            SendResponse sendResponse = mock(SendResponse.class);
+            if (errorCode == null) {
+                doReturn(true).when(sendResponse).isSuccessful();
+            } else {
+                FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+                doReturn(errorCode).when(exception).getMessagingErrorCode();
+                doReturn(false).when(sendResponse).isSuccessful();
+                doReturn(exception).when(sendResponse).getException();
+            }
+            responses.add(sendResponse);
+        }
+        BatchResponse response = mock(BatchResponse.class);
+        doReturn(responses).when(response).getResponses();
+        return response;
+    }
+}
@@ -0,0 +1,140 @@
+package woozlabs.echo.domain.gmail.service;
+
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.WatchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.gmail.dto.pubsub.PubSubWatchRequest;
+import woozlabs.echo.domain.gmail.entity.FcmToken;
+import woozlabs.echo.domain.gmail.entity.PubSubHistory;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+import woozlabs.echo.domain.gmail.validator.PubSubValidator;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.domain.member.entity.Member;
+import woozlabs.echo.domain.member.entity.MemberAccount;
+import woozlabs.echo.domain.member.repository.query.MemberAccountQueryRepository;
+import woozlabs.echo.domain.member.service.LastLoginTracker;
+import woozlabs.echo.global.query.QueryCountTest;
+import woozlabs.echo.global.scheduler.GmailWatchRenewalScheduler;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Import({GmailService.class, MemberAccountQueryRepository.class, PubSubValidator.class})
+class GmailServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private GmailService gmailService;
+
+    @MockBean
+    private MultiThreadGmailService multiThreadGmailService;
+
+    @MockBean
+    private GmailUtility gmailUtility;
+
+    @MockBean
+    private LastLoginTracker lastLoginTracker;
+
+    @MockBean
+    private GmailWatchRenewalScheduler gmailWatchRenewalScheduler;
+
+    private Gmail gmail;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gmail = mock(Gmail.class, RETURNS_DEEP_STUBS);
+        doReturn(gmail).when(gmailUtility).createGmailService(any());
+        when(gmail.users().watch(anyString(), any()).execute())
+                .thenReturn(new WatchResponse().setHistoryId(BigInteger.TEN).setExpiration(1_000L));
+    }
+
+    @Test
+    @DisplayName("watch 등록은 fcm token 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void subscribePubSub() {
+        // given
+        Account account = persistAccountWithTokens("uid-1", "account@example.com", 3);
+        em.persist(PubSubHistory.builder().account(account).historyId(BigInteger.ONE).build());
+
+        // when, then: fcm tokens, pub_sub_history, update
+        assertMaxQueries(3, () -> gmailService.subscribePubSub(account, watchRequest()));
+    }
+
+    @Test
+    @DisplayName("처음 watch 를 등록하면 pub_sub_history 를 한 번 저장합니다.")
+    void subscribePubSubFirstTime() {
+        // given
+        Account account = persistAccountWithTokens("uid-1", "account@example.com", 3);
+
+        // when, then: fcm tokens, pub_sub_history, insert
+        assertMaxQueries(3, () -> gmailService.subscribePubSub(account, watchRequest()));
+    }
+
+    @Test
+    @DisplayName("계정 하나의 watch 중지는 일정한 쿼리로 처리됩니다.")
+    void stopPubSubForAccount() {
+        // given
+        persistAccountWithTokens("uid-1", "account@example.com", 0);
+
+        // when, then: account(+sidebarConfig), clear watch
+        assertMaxQueries(3, () -> gmailService.stopPubSub("uid-0", "uid-1"));
+    }
+
+    @Test
+    @DisplayName("member 의 모든 watch 중지는 연결된 계정 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void stopPubSubForMember() {
+        // given
+        Member member = em.persist(Member.builder()
+                .displayName("primary")
+                .memberName("primary-1234")
+                .email("primary@example.com")
+                .primaryUid("uid-0")
+                .build());
+        for (int idx = 0; idx < 10; idx++) {
+            Account account = persistAccount("uid-" + idx, "account" + idx + "@example.com");
+            em.persist(new MemberAccount(member, account));
+        }
+
+        // when, then: memberAccounts with account and sidebarConfig, bulk clear watch
+        assertMaxQueries(2, () -> gmailService.stopPubSub("uid-0", null));
+    }
+
+    @Test
+    @DisplayName("uid 로 메시지를 조회할 때 계정은 한 번만 조회합니다.")
+    void getUserEmailMessageWithoutVerification() throws Exception {
+        // given
+        persistAccountWithTokens("uid-1", "account@example.com", 0);
+        when(gmail.users().messages().get(anyString(), anyString()).execute()).thenThrow(new IOException("gmail unavailable"));
+
+        // when, then: account(+sidebarConfig)
+        assertMaxQueries(2, () -> assertThrows(IOException.class,
+                () -> gmailService.getUserEmailMessageWithoutVerification("uid-1", "message-1")));
+    }
+
+    private Account persistAccountWithTokens(String uid, String email, int tokenCount) {
+        Account account = persistAccount(uid, email);
+        for (int idx = 0; idx < tokenCount; idx++) {
+            em.persist(FcmToken.builder()
+                    .account(account)
+                    .fcmToken("token-" + idx)
+                    .machineUuid("machine-" + idx)
+                    .build());
+        }
+        return account;
+    }
+
+    private static PubSubWatchRequest watchRequest() {
+        PubSubWatchRequest request = new PubSubWatchRequest();
+        request.setLabelIds(List.of("INBOX"));
+        return request;
+    }
+}
@@ -0,0 +1,61 @@
+package woozlabs.echo.domain.gmail.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.gmail.entity.ProcessedEvent;
+import woozlabs.echo.global.query.QueryCountTest;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+@Import(PubSubIdempotencyStore.class)
+class PubSubIdempotencyStoreQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private PubSubIdempotencyStore pubSubIdempotencyStore;
+
+    @Test
+    @DisplayName("처음 보는 key 는 insert 한 번으로 선점합니다.")
+    void tryAcquire() {
+        // when, then: insert
+        assertMaxQueries(1, () -> pubSubIdempotencyStore.tryAcquire("gmail:1:message-1:added"));
+    }
+
+    @Test
+    @DisplayName("이 서버에서 이미 처리한 key 는 DB 를 조회하지 않습니다.")
+    void tryAcquireCachedKey() {
+        // given
+        pubSubIdempotencyStore.tryAcquire("gmail:1:message-1:added");
+
+        // when, then
+        assertMaxQueries(0, () -> pubSubIdempotencyStore.tryAcquire("gmail:1:message-1:added"));
+    }
+
+    @Test
+    @DisplayName("key 해제는 delete 한 번으로 처리됩니다.")
+    void release() {
+        // given
+        em.persist(ProcessedEvent.builder()
+                .eventKey("gmail:1:message-1:added")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+
+        // when, then: delete
+        assertMaxQueries(1, () -> pubSubIdempotencyStore.release("gmail:1:message-1:added"));
+    }
+
+    @Test
+    @DisplayName("만료된 key 정리는 만료된 key 수와 관계없이 delete 한 번으로 처리됩니다.")
+    void deleteExpiredKeys() {
+        // given
+        IntStream.range(0, 10).forEach(idx -> em.persist(ProcessedEvent.builder()
+                .eventKey("gmail:1:message-" + idx + ":added")
+                .expiresAt(LocalDateTime.now().minusHours(1))
+                .build()));
+
+        // when, then: bulk delete
+        assertMaxQueries(1, () -> pubSubIdempotencyStore.deleteExpiredKeys());
+    }
+}
@@ -0,0 +1,150 @@
+package woozlabs.echo.domain.gmail.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import woozlabs.echo.domain.gmail.dto.pubsub.PubSubInMessage;
+import woozlabs.echo.domain.gmail.dto.pubsub.PubSubMessage;
+import woozlabs.echo.domain.gmail.dto.pubsub.PubSubNotification;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PubSubNotificationDispatcherTest {
+
+    @Mock
+    private PubSubService pubSubService;
+
+    @Mock
+    private PubSubIdempotencyStore pubSubIdempotencyStore;
+
+    private final Queue<Runnable> submittedTasks = new ArrayDeque<>();
+    private PubSubNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PubSubNotificationDispatcher(pubSubService, submittedTasks::add, pubSubIdempotencyStore);
+    }
+
+    @Test
+    @DisplayName("같은 계정의 notification 은 가장 큰 historyId 로 합쳐 한 번만 동기화합니다.")
+    void coalesceNotificationsPerAccount() throws Exception {
+        // given
+        PubSubMessage first = createMessage("100");
+        PubSubMessage second = createMessage("105");
+        PubSubMessage third = createMessage("103");
+        doReturn(true).when(pubSubIdempotencyStore).tryAcquire(any());
+        doReturn(createNotification("100")).when(pubSubService).decodeNotification(first);
+        doReturn(createNotification("105")).when(pubSubService).decodeNotification(second);
+        doReturn(createNotification("103")).when(pubSubService).decodeNotification(third);
+
+        // when
+        assertThat(dispatcher.dispatch(first)).isTrue();
+        assertThat(dispatcher.dispatch(second)).isTrue();
+        assertThat(dispatcher.dispatch(third)).isTrue();
+        submittedTasks.poll().run();
+
+        // then
+        assertThat(submittedTasks).isEmpty();
+        verify(pubSubService, times(1)).syncHistory(any(), any());
+        verify(pubSubService).syncHistory("test@gmail.com", new BigInteger("105"));
+    }
+
+    @Test
+    @DisplayName("동기화에 실패하면 worker 를 기다리게 하지 않고 재시도를 예약합니다.")
+    void rescheduleFailedSyncWithoutBlockingWorker() throws Exception {
+        // given
+        PubSubMessage message = createMessage("100");
+        doReturn(true).when(pubSubIdempotencyStore).tryAcquire(any());
+        doReturn(createNotification("100")).when(pubSubService).decodeNotification(message);
+        doThrow(new RuntimeException("gmail unavailable")).when(pubSubService).syncHistory(any(), any());
+
+        // when
+        dispatcher.dispatch(message);
+        long startedAt = System.nanoTime();
+        submittedTasks.poll().run();
+
+        // then
+        assertThat(System.nanoTime() - startedAt).isLessThan(500_000_000L);
+        assertThat(submittedTasks).isEmpty();
+        verify(pubSubService, times(1)).syncHistory("test@gmail.com", new BigInteger("100"));
+    }
+
+    @Test
+    @DisplayName("동기화가 끝난 계정에 다시 notification 이 오면 새 worker 로 처리합니다.")
+    void restartWorkerAfterDrained() throws Exception {
+        // given
+        PubSubMessage first = createMessage("100");
+        PubSubMessage second = createMessage("101");
+        doReturn(true).when(pubSubIdempotencyStore).tryAcquire(any());
+        doReturn(createNotification("100")).when(pubSubService).decodeNotification(first);
+        doReturn(createNotification("101")).when(pubSubService).decodeNotification(second);
+
+        // when
+        dispatcher.dispatch(first);
+        submittedTasks.poll().run();
+        dispatcher.dispatch(second);
+
+        // then
+        assertThat(submittedTasks).hasSize(1);
+        submittedTasks.poll().run();
+        verify(pubSubService).syncHistory("test@gmail.com", new BigInteger("101"));
+    }
+
+    @Test
+    @DisplayName("재전송 횟수를 넘긴 notification 은 처리하지 않고 ack 합니다.")
+    void skipExceededDeliveryAttempt() throws Exception {
+        // given
+        PubSubMessage message = createMessage("100");
+        message.setDeliveryAttempt(3);
+
+        // when
+        boolean acknowledged = dispatcher.dispatch(message);
+
+        // then
+        assertThat(acknowledged).isTrue();
+        assertThat(submittedTasks).isEmpty();
+        verify(pubSubService, never()).decodeNotification(any());
+    }
+
+    @Test
+    @DisplayName("이미 받은 messageId 는 다시 처리하지 않고 ack 합니다.")
+    void skipDuplicatedDelivery() throws Exception {
+        // given
+        PubSubMessage message = createMessage("100");
+        doReturn(false).when(pubSubIdempotencyStore).tryAcquire("pubsub:100");
+
+        // when
+        boolean acknowledged = dispatcher.dispatch(message);
+
+        // then
+        assertThat(acknowledged).isTrue();
+        assertThat(submittedTasks).isEmpty();
+        verify(pubSubService, never()).decodeNotification(any());
+    }
+
+    private PubSubMessage createMessage(String messageId) {
+        PubSubInMessage inMessage = new PubSubInMessage();
+        inMessage.setMessageId(messageId);
+        PubSubMessage message = new PubSubMessage();
+        message.setMessage(inMessage);
+        message.setDeliveryAttempt(1);
+        return message;
+    }
+
+    private PubSubNotification createNotification(String historyId) {
+        PubSubNotification notification = new PubSubNotification();
+        notification.setEmailAddress("test@gmail.com");
+        notification.setHistoryId(historyId);
+        return notification;
+    }
+}
@@ -0,0 +1,220 @@
+package woozlabs.echo.domain.gmail.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.services.gmail.Gmail;
+import com.google.api.services.gmail.model.*;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.OAuth2Credentials;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.gmail.dto.message.GmailMessageGetResponse;
+import woozlabs.echo.domain.gmail.dto.pubsub.FcmTokenRequest;
+import woozlabs.echo.domain.gmail.entity.FcmToken;
+import woozlabs.echo.domain.gmail.entity.PubSubHistory;
+import woozlabs.echo.domain.gmail.entity.VerificationEmail;
+import woozlabs.echo.domain.gmail.util.GmailUtility;
+import woozlabs.echo.domain.gmail.validator.PubSubValidator;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.global.query.QueryCountTest;
+import woozlabs.echo.global.utils.GoogleAccessTokenProvider;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Import({PubSubService.class, PubSubValidator.class})
+class PubSubServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private PubSubService pubSubService;
+
+    @MockBean
+    private ObjectMapper om;
+
+    @MockBean
+    private GmailService gmailService;
+
+    @MockBean
+    private GmailUtility gmailUtility;
+
+    @MockBean
+    private FcmNotificationDispatcher fcmNotificationDispatcher;
+
+    @MockBean
+    private PubSubIdempotencyStore pubSubIdempotencyStore;
+
+    @MockBean
+    private GoogleAccessTokenProvider googleAccessTokenProvider;
+
+    private Gmail gmail;
+    private MockedConstruction<Gmail.Builder> gmailBuilders;
+
+    @TestConfiguration
+    static class HydrationExecutorConfig {
+
+        // metadata batch 를 호출한 스레드에서 바로 실행
+        @Bean(name = "gmailHydrationExecutor")
+        Executor gmailHydrationExecutor() {
+            return Runnable::run;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        gmail = mock(Gmail.class, RETURNS_DEEP_STUBS);
+        gmailBuilders = mockConstruction(Gmail.Builder.class, withSettings().defaultAnswer(RETURNS_SELF),
+                (builder, context) -> doReturn(gmail).when(builder).build());
+        doReturn(OAuth2Credentials.create(AccessToken.newBuilder().setTokenValue("token").build()))
+                .when(googleAccessTokenProvider).createCredentials(any(), anyList());
+        doReturn(gmail).when(gmailUtility).createGmailService(any());
+        doReturn(true).when(pubSubIdempotencyStore).tryAcquire(anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        gmailBuilders.close();
+    }
+
+    @Test
+    @DisplayName("history 동기화는 메시지 수와 fcm token 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void syncHistory() throws Exception {
+        // given
+        persistWatchedAccount("uid-1", "account@example.com", 3);
+        stubHistory(20);
+
+        // when, then: history with account and fcm tokens, sidebarConfig, advance cursor
+        assertMaxQueries(3, () -> syncHistory("account@example.com"));
+    }
+
+    @Test
+    @DisplayName("verification 메시지는 메시지마다 한 번만 저장합니다.")
+    void syncHistoryWithVerificationEmails() throws Exception {
+        // given
+        persistWatchedAccount("uid-1", "account@example.com", 3);
+        stubHistory(5);
+        doReturn(true).when(gmailUtility).containsVerificationKeyword(anyString());
+        GmailMessageGetResponse verificationMessage = new GmailMessageGetResponse();
+        verificationMessage.getVerification().setVerification(Boolean.TRUE);
+        verificationMessage.getVerification().setLinks(List.of("https://example.com/verify"));
+        doReturn(verificationMessage).when(gmailService).getUserEmailMessage(any(), anyString());
+        when(gmail.users().labels().list(anyString()).execute())
+                .thenReturn(new ListLabelsResponse().setLabels(List.of(new Label().setId("label-1").setName("Echo/Verification"))));
+
+        // when, then: history with account and fcm tokens, sidebarConfig, 메시지마다 verification insert, advance cursor
+        assertMaxQueries(3 + 5, () -> syncHistory("account@example.com"));
+    }
+
+    @Test
+    @DisplayName("새 기기의 fcm token 저장은 일정한 쿼리로 처리됩니다.")
+    void saveNewFcmToken() {
+        // given
+        persistWatchedAccount("uid-1", "account@example.com", 3);
+
+        // when, then: account(+sidebarConfig), token by machine, tokens, insert
+        assertMaxQueries(5, () -> pubSubService.saveFcmToken("uid-1", fcmTokenRequest("new-token", "new-machine")));
+    }
+
+    @Test
+    @DisplayName("이미 등록된 기기의 fcm token 은 조회 후 바로 갱신합니다.")
+    void updateFcmToken() {
+        // given
+        persistWatchedAccount("uid-1", "account@example.com", 3);
+
+        // when, then: account(+sidebarConfig), token by machine, update
+        assertMaxQueries(4, () -> pubSubService.saveFcmToken("uid-1", fcmTokenRequest("new-token", "machine-0")));
+    }
+
+    @Test
+    @DisplayName("verification link 조회는 조회와 삭제만 실행합니다.")
+    void getVerificationData() {
+        // given
+        Account account = persistAccount("uid-1", "account@example.com");
+        em.persist(VerificationEmail.builder()
+                .threadId("thread-1")
+                .messageId("message-1")
+                .codes("")
+                .links("https://example.com/verify")
+                .uuid("uuid-1")
+                .account(account)
+                .build());
+
+        // when, then: verification email, delete
+        assertMaxQueries(2, () -> pubSubService.getVerificationData("uuid-1"));
+    }
+
+    private void syncHistory(String email) {
+        try {
+            pubSubService.syncHistory(email, BigInteger.TEN);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void persistWatchedAccount(String uid, String email, int tokenCount) {
+        Account account = persistAccount(uid, email);
+        em.persist(PubSubHistory.builder().account(account).historyId(BigInteger.ONE).build());
+        for (int idx = 0; idx < tokenCount; idx++) {
+            em.persist(FcmToken.builder()
+                    .account(account)
+                    .fcmToken("token-" + idx)
+                    .machineUuid("machine-" + idx)
+                    .build());
+        }
+    }
+
+    // messageCount 개의 메시지가 추가된 history 와 각 메시지의 metadata batch 응답
+    private void stubHistory(int messageCount) throws Exception {
+        List<HistoryMessageAdded> messagesAdded = IntStream.range(0, messageCount)
+                .mapToObj(idx -> new HistoryMessageAdded().setMessage(new Message().setId("message-" + idx).setThreadId("thread-" + idx)))
+                .toList();
+        ListHistoryResponse historyResponse = new ListHistoryResponse()
+                .setHistory(List.of(new History().setId(BigInteger.valueOf(5)).setMessagesAdded(messagesAdded)));
+        when(gmail.users().history().list(anyString())
+                .setStartHistoryId(any())
+                .setLabelId(anyString())
+                .setMaxResults(anyLong())
+                .setPageToken(any())
+                .execute()).thenReturn(historyResponse);
+        when(gmail.users().messages().get(anyString(), anyString()))
+                .thenAnswer(invocation -> metadataRequest(invocation.getArgument(1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Gmail.Users.Messages.Get metadataRequest(String messageId) {
+        Gmail.Users.Messages.Get request = mock(Gmail.Users.Messages.Get.class, RETURNS_SELF);
+        doAnswer(invocation -> {
+            Message metadata = new Message()
+                    .setId(messageId)
+                    .setSnippet("snippet")
+                    .setPayload(new MessagePart().setHeaders(List.of(
+                            new MessagePartHeader().setName("Subject").setValue("subject"))));
+            invocation.<JsonBatchCallback<Message>>getArgument(1).onSuccess(metadata, null);
+            return null;
+        }).when(request).queue(any(BatchRequest.class), any(JsonBatchCallback.class));
+        return request;
+    }
+
+    private static FcmTokenRequest fcmTokenRequest(String fcmToken, String machineUuid) {
+        FcmTokenRequest request = new FcmTokenRequest();
+        request.setFcmToken(fcmToken);
+        request.setMachineUuid(machineUuid);
+        return request;
+    }
+}
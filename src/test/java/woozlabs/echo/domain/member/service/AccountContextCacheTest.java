@@ -0,0 +1,77 @@
+package woozlabs.echo.domain.member.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.domain.member.entity.MemberAccount;
+import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.domain.member.repository.query.MemberAccountQueryRepository;
+import woozlabs.echo.global.exception.CustomErrorException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountContextCacheTest {
+
+    @Mock
+    private MemberAccountQueryRepository memberAccountQueryRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private AccountContextCache accountContextCache;
+
+    @Test
+    @DisplayName("token 이 갱신되면 연결은 다시 조회하지 않고 계정 정보만 다시 읽습니다.")
+    void reloadOnlyAccountAfterTokenRefresh() {
+        // given
+        Account account = createAccount("old-token");
+        MemberAccount memberAccount = mock(MemberAccount.class);
+        doReturn(account).when(memberAccount).getAccount();
+        doReturn(Optional.of(memberAccount)).when(memberAccountQueryRepository).findByMemberUidAndAccountUid("primary", "aa");
+        doReturn(Optional.of(createAccount("new-token"))).when(accountRepository).findById(1L);
+
+        // when
+        String first = accountContextCache.get("primary", "aa").getAccessToken();
+        String cached = accountContextCache.get("primary", "aa").getAccessToken();
+        accountContextCache.evictAccount(1L);
+        String refreshed = accountContextCache.get("primary", "aa").getAccessToken();
+
+        // then
+        assertThat(first).isEqualTo("old-token");
+        assertThat(cached).isEqualTo("old-token");
+        assertThat(refreshed).isEqualTo("new-token");
+        verify(memberAccountQueryRepository, times(1)).findByMemberUidAndAccountUid("primary", "aa");
+        verify(accountRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 계정은 캐시하지 않고 매번 조회합니다.")
+    void doNotCacheMissingMembership() {
+        // given
+        doReturn(Optional.empty()).when(memberAccountQueryRepository).findByMemberUidAndAccountUid("primary", "aa");
+
+        // when & then
+        assertThatThrownBy(() -> accountContextCache.get("primary", "aa")).isInstanceOf(CustomErrorException.class);
+        assertThatThrownBy(() -> accountContextCache.get("primary", "aa")).isInstanceOf(CustomErrorException.class);
+        verify(memberAccountQueryRepository, times(2)).findByMemberUidAndAccountUid("primary", "aa");
+    }
+
+    private Account createAccount(String accessToken) {
+        return Account.builder()
+                .id(1L)
+                .uid("aa")
+                .email("test@gmail.com")
+                .accessToken(accessToken)
+                .build();
+    }
+}
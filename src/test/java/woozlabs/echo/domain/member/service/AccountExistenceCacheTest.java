@@ -0,0 +1,56 @@
+package woozlabs.echo.domain.member.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import woozlabs.echo.domain.member.repository.AccountRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountExistenceCacheTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private AccountExistenceCache accountExistenceCache;
+
+    @Test
+    @DisplayName("email 은 대소문자를 구분하지 않고 가입 여부를 확인합니다.")
+    void findExistingEmailsIgnoringCase() {
+        // given
+        doReturn(List.of("User@Example.com")).when(accountRepository).findEmailsByEmailIn(Set.of("user@example.com", "other@example.com"));
+
+        // when
+        Set<String> existing = accountExistenceCache.findExistingEmails(List.of("USER@example.com", "other@example.com"));
+        Set<String> cached = accountExistenceCache.findExistingEmails(List.of("user@EXAMPLE.com"));
+
+        // then
+        assertThat(existing).containsExactly("USER@example.com");
+        assertThat(cached).containsExactly("user@EXAMPLE.com");
+        verify(accountRepository, times(1)).findEmailsByEmailIn(any());
+    }
+
+    @Test
+    @DisplayName("새 계정이 생기면 대소문자와 관계없이 캐시에서 제거됩니다.")
+    void evictIgnoringCase() {
+        // given
+        doReturn(List.of()).doReturn(List.of("new@example.com")).when(accountRepository).findEmailsByEmailIn(Set.of("new@example.com"));
+        assertThat(accountExistenceCache.findExistingEmails(List.of("new@example.com"))).isEmpty();
+
+        // when
+        accountExistenceCache.evict("New@Example.com");
+
+        // then
+        assertThat(accountExistenceCache.findExistingEmails(List.of("new@example.com"))).containsExactly("new@example.com");
+    }
+}
@@ -0,0 +1,28 @@
+package woozlabs.echo.domain.member.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.global.query.QueryCountTest;
+
+@Import(AccountService.class)
+class AccountServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @MockBean
+    private AccountContextCache accountContextCache;
+
+    @Test
+    @DisplayName("이메일로 계정 프로필을 조회합니다.")
+    void getProfileByField() {
+        // given
+        persistAccount("uid-1", "account@example.com");
+
+        // when, then: account(+sidebarConfig)
+        assertMaxQueries(2, () -> accountService.getProfileByField("email", "account@example.com"));
+    }
+}
@@ -0,0 +1,100 @@
+package woozlabs.echo.domain.member.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import woozlabs.echo.global.query.QueryCountTest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+
+@Import(LastLoginTracker.class)
+class LastLoginTrackerQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private LastLoginTracker lastLoginTracker;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기록한 계정의 마지막 접속 시각만 UPDATE 한 번으로 저장합니다.")
+    void flushRecordedLogins() {
+        // given
+        IntStream.range(0, 3).forEach(idx -> persistAccount("uid-" + idx, "account" + idx + "@example.com"));
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        lastLoginTracker.record("uid-0");
+        lastLoginTracker.record("uid-1");
+
+        // when
+        List<String> queries = executedQueries(() -> lastLoginTracker.flush());
+
+        // then
+        assertThat(queries).hasSize(1);
+        Map<String, LocalDateTime> lastLogins = lastLogins();
+        assertThat(lastLogins.get("uid-0")).isAfterOrEqualTo(before);
+        assertThat(lastLogins.get("uid-1")).isAfterOrEqualTo(before);
+        assertThat(lastLogins.get("uid-2")).isNull();
+    }
+
+    @Test
+    @DisplayName("500 개가 넘으면 500 개 단위로 나눠서 저장합니다.")
+    void flushInBatches() {
+        // given
+        IntStream.range(0, 501).forEach(idx -> {
+            persistAccount("uid-" + idx, "account" + idx + "@example.com");
+            lastLoginTracker.record("uid-" + idx);
+        });
+
+        // when
+        List<String> queries = executedQueries(() -> lastLoginTracker.flush());
+
+        // then
+        assertThat(queries).hasSize(2);
+        assertThat(lastLogins().values()).hasSize(501).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 접속 시각은 남겨 두었다가 다음 flush 에서 저장합니다.")
+    void retryFailedFlush() {
+        // given
+        persistAccount("uid-0", "account0@example.com");
+        lastLoginTracker.record("uid-0");
+        em.flush();
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doCallRealMethod()
+                .when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        // when
+        lastLoginTracker.flush();
+        LocalDateTime afterFailure = lastLogins().get("uid-0");
+        lastLoginTracker.flush();
+
+        // then
+        assertThat(afterFailure).isNull();
+        assertThat(lastLogins().get("uid-0")).isNotNull();
+    }
+
+    private Map<String, LocalDateTime> lastLogins() {
+        Map<String, LocalDateTime> lastLogins = new HashMap<>();
+        jdbcTemplate.query("SELECT uid, last_login_at FROM account", rs -> {
+            Timestamp lastLoginAt = rs.getTimestamp("last_login_at");
+            lastLogins.put(rs.getString("uid"), lastLoginAt == null ? null : lastLoginAt.toLocalDateTime());
+        });
+        return lastLogins;
+    }
+}
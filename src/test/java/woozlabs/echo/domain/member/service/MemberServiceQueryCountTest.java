@@ -0,0 +1,52 @@
+package woozlabs.echo.domain.member.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.auth.utils.FirebaseUtils;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.domain.member.entity.Member;
+import woozlabs.echo.domain.member.entity.MemberAccount;
+import woozlabs.echo.global.query.QueryCountTest;
+import woozlabs.echo.global.scheduler.GmailWatchRenewalScheduler;
+import woozlabs.echo.global.utils.GoogleOAuthUtils;
+
+@Import(MemberService.class)
+class MemberServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @MockBean
+    private FirebaseUtils firebaseUtils;
+
+    @MockBean
+    private GoogleOAuthUtils googleOAuthUtils;
+
+    @MockBean
+    private AccountContextCache accountContextCache;
+
+    @MockBean
+    private GmailWatchRenewalScheduler gmailWatchRenewalScheduler;
+
+    @Test
+    @DisplayName("primary 계정 정보 조회는 연결된 계정 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void getAccountInfo() {
+        // given
+        Member member = em.persist(Member.builder()
+                .displayName("primary")
+                .memberName("primary-1234")
+                .email("primary@example.com")
+                .primaryUid("uid-0")
+                .build());
+        for (int idx = 0; idx < 10; idx++) {
+            Account account = persistAccount("uid-" + idx, "account" + idx + "@example.com");
+            em.persist(new MemberAccount(member, account));
+        }
+
+        // when, then: account(+sidebarConfig), memberAccounts with member, linked accounts with sidebarConfig
+        assertMaxQueries(4, () -> memberService.getAccountInfo("uid-0"));
+    }
+}
@@ -0,0 +1,158 @@
+package woozlabs.echo.domain.sharedEmail.service;
+
+import com.amazonaws.services.simpleemail.AbstractAmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.model.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+import woozlabs.echo.domain.sharedEmail.dto.InvitationDelivery;
+import woozlabs.echo.domain.sharedEmail.dto.SendSharedEmailInvitationDto;
+import woozlabs.echo.domain.sharedEmail.entity.Access;
+import woozlabs.echo.domain.sharedEmail.entity.Permission;
+import woozlabs.echo.domain.sharedEmail.entity.SharedDataType;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class InviteShareEmailServiceTest {
+
+    private LocalSes localSes;
+    private TemplateEngine templateEngine;
+    private InviteShareEmailService inviteShareEmailService;
+    private SendSharedEmailInvitationDto dto;
+
+    @BeforeEach
+    void setUp() {
+        localSes = new LocalSes();
+        templateEngine = mock(TemplateEngine.class);
+        when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("<html>{{invitationMemo}}</html>");
+        inviteShareEmailService = new InviteShareEmailService(localSes, templateEngine, new ObjectMapper());
+
+        dto = SendSharedEmailInvitationDto.builder()
+                .dataId("thread-1")
+                .invitationMemo("memo")
+                .access(Access.RESTRICTED)
+                .permission(Permission.VIEWER)
+                .sharedDataType(SharedDataType.THREAD)
+                .notifyInvitation(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("초대 메일을 template 한 번 렌더링 후 50명씩 bulk 발송합니다.")
+    void sendInvitationsInBulk() throws Exception {
+        // given
+        List<String> registered = emails("registered", 70);
+        List<String> unregistered = emails("unregistered", 50);
+
+        // when
+        List<InvitationDelivery> deliveries = inviteShareEmailService.sendInvitations(registered, unregistered, dto).get();
+
+        // then
+        verify(templateEngine, times(1)).process(anyString(), any(IContext.class));
+        assertEquals("<html>{{invitationMemo}}</html>", localSes.templates.get(InviteShareEmailService.TEMPLATE_NAME).getHtmlPart());
+        assertEquals(List.of(50, 50, 20), localSes.requests.stream().map(request -> request.getDestinations().size()).toList());
+        assertEquals(120, deliveries.size());
+        assertTrue(deliveries.stream().allMatch(delivery -> delivery.isSent() && delivery.getAttempts() == 1));
+
+        String unregisteredMemo = localSes.requests.get(2).getDestinations().get(0).getReplacementTemplateData();
+        assertTrue(unregisteredMemo.contains("without logging in"));
+        String registeredMemo = localSes.requests.get(0).getDestinations().get(0).getReplacementTemplateData();
+        assertFalse(registeredMemo.contains("without logging in"));
+
+        // 두 번째 발송에서는 template 을 다시 렌더링하지 않음
+        inviteShareEmailService.sendInvitations(List.of("another@example.com"), List.of(), dto).get();
+        verify(templateEngine, times(1)).process(anyString(), any(IContext.class));
+    }
+
+    @Test
+    @DisplayName("일시적으로 실패한 수신자만 재시도하고 수신자별 상태를 기록합니다.")
+    void retryOnlyTransientFailures() throws Exception {
+        // given
+        Set<String> throttledOnce = new HashSet<>(Set.of("throttled@example.com"));
+        localSes.statusOf = email -> {
+            if (throttledOnce.remove(email)) return BulkEmailStatus.AccountThrottled;
+            if (email.equals("rejected@example.com")) return BulkEmailStatus.MessageRejected;
+            return BulkEmailStatus.Success;
+        };
+
+        // when
+        List<InvitationDelivery> deliveries = inviteShareEmailService.sendInvitations(
+                List.of("ok@example.com", "throttled@example.com", "rejected@example.com"), List.of(), dto).get();
+
+        // then
+        Map<String, InvitationDelivery> byEmail = new HashMap<>();
+        deliveries.forEach(delivery -> byEmail.put(delivery.getEmail(), delivery));
+        assertEquals(2, localSes.requests.size());
+        assertEquals(List.of("throttled@example.com"),
+                localSes.requests.get(1).getDestinations().stream().map(d -> d.getDestination().getToAddresses().get(0)).toList());
+
+        assertTrue(byEmail.get("ok@example.com").isSent());
+        assertEquals(1, byEmail.get("ok@example.com").getAttempts());
+        assertTrue(byEmail.get("throttled@example.com").isSent());
+        assertEquals(2, byEmail.get("throttled@example.com").getAttempts());
+        assertFalse(byEmail.get("rejected@example.com").isSent());
+        assertEquals("MessageRejected", byEmail.get("rejected@example.com").getStatus());
+        assertEquals(1, byEmail.get("rejected@example.com").getAttempts());
+    }
+
+    private static List<String> emails(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(idx -> prefix + idx + "@example.com").toList();
+    }
+
+    // 네트워크 없이 SES 의 template/bulk 발송 동작을 흉내내는 local stand-in
+    private static class LocalSes extends AbstractAmazonSimpleEmailService {
+
+        private final Map<String, Template> templates = new HashMap<>();
+        private final List<SendBulkTemplatedEmailRequest> requests = new ArrayList<>();
+        private Function<String, BulkEmailStatus> statusOf = email -> BulkEmailStatus.Success;
+
+        @Override
+        public GetSendQuotaResult getSendQuota(GetSendQuotaRequest request) {
+            return new GetSendQuotaResult().withMaxSendRate(10_000.0).withMax24HourSend(50_000.0).withSentLast24Hours(0.0);
+        }
+
+        @Override
+        public CreateTemplateResult createTemplate(CreateTemplateRequest request) {
+            templates.put(request.getTemplate().getTemplateName(), request.getTemplate());
+            return new CreateTemplateResult();
+        }
+
+        @Override
+        public UpdateTemplateResult updateTemplate(UpdateTemplateRequest request) {
+            if (!templates.containsKey(request.getTemplate().getTemplateName())) {
+                throw new TemplateDoesNotExistException("Template " + request.getTemplate().getTemplateName() + " does not exist");
+            }
+            templates.put(request.getTemplate().getTemplateName(), request.getTemplate());
+            return new UpdateTemplateResult();
+        }
+
+        @Override
+        public SendBulkTemplatedEmailResult sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest request) {
+            if (!templates.containsKey(request.getTemplate())) {
+                throw new TemplateDoesNotExistException("Template " + request.getTemplate() + " does not exist");
+            }
+            if (request.getDestinations().size() > InviteShareEmailService.MAX_DESTINATIONS_PER_CALL) {
+                throw new AmazonSimpleEmailServiceException("Too many destinations");
+            }
+            requests.add(request);
+            List<BulkEmailDestinationStatus> statuses = new ArrayList<>();
+            for (BulkEmailDestination destination : request.getDestinations()) {
+                BulkEmailStatus status = statusOf.apply(destination.getDestination().getToAddresses().get(0));
+                statuses.add(new BulkEmailDestinationStatus()
+                        .withStatus(status)
+                        .withMessageId(status == BulkEmailStatus.Success ? UUID.randomUUID().toString() : null));
+            }
+            return new SendBulkTemplatedEmailResult().withStatus(statuses);
+        }
+    }
+}
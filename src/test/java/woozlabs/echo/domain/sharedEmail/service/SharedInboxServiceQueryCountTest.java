@@ -0,0 +1,81 @@
+package woozlabs.echo.domain.sharedEmail.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.gmail.service.GmailService;
+import woozlabs.echo.domain.member.entity.Account;
+import woozlabs.echo.domain.member.service.AccountExistenceCache;
+import woozlabs.echo.domain.sharedEmail.dto.SendSharedEmailInvitationDto;
+import woozlabs.echo.domain.sharedEmail.entity.Access;
+import woozlabs.echo.domain.sharedEmail.entity.Permission;
+import woozlabs.echo.domain.sharedEmail.entity.SharedDataType;
+import woozlabs.echo.domain.sharedEmail.entity.SharedEmail;
+import woozlabs.echo.global.query.QueryCountTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Import({SharedInboxService.class, AccountExistenceCache.class})
+class SharedInboxServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private SharedInboxService sharedInboxService;
+
+    @MockBean
+    private InviteShareEmailService inviteShareEmailService;
+
+    @MockBean
+    private GmailService gmailService;
+
+    @MockBean
+    private SharedEmailSnapshotCache sharedEmailSnapshotCache;
+
+    @Test
+    @DisplayName("초대는 초대 대상 수만큼의 insert 외에 일정한 쿼리로 처리됩니다.")
+    void inviteToSharedPost() {
+        // given
+        Account owner = persistAccount("uid-1", "owner@example.com");
+        SharedEmail sharedEmail = persistSharedEmail(owner, "thread-1");
+        List<String> invitees = IntStream.range(0, 10).mapToObj(idx -> "invitee" + idx + "@example.com").toList();
+        SendSharedEmailInvitationDto dto = SendSharedEmailInvitationDto.builder()
+                .dataId("thread-1")
+                .access(Access.RESTRICTED)
+                .permission(Permission.VIEWER)
+                .sharedDataType(SharedDataType.THREAD)
+                .notifyInvitation(true)
+                .invitees(invitees)
+                .build();
+
+        // when, then: account(+sidebarConfig), shared email, invitees, 가입 여부 bulk 조회, invitee insert
+        assertMaxQueries(5 + invitees.size(), () -> sharedInboxService.inviteToSharedPost("uid-1", sharedEmail.getId(), dto));
+    }
+
+    @Test
+    @DisplayName("나에게 공유된 메일 조회는 공유 메일 수와 관계없이 일정한 쿼리로 처리됩니다.")
+    void getSharedWithMe() {
+        // given
+        Account owner = persistAccount("uid-1", "owner@example.com");
+        persistAccount("uid-2", "invitee@example.com");
+        for (int idx = 0; idx < 10; idx++) {
+            SharedEmail sharedEmail = persistSharedEmail(owner, "thread-" + idx);
+            sharedEmail.putInvitee("invitee@example.com", Permission.VIEWER);
+        }
+
+        // when, then: account(+sidebarConfig), invitees with shared email
+        assertMaxQueries(3, () -> sharedInboxService.getSharedWithMe("uid-2"));
+    }
+
+    private SharedEmail persistSharedEmail(Account owner, String dataId) {
+        SharedEmail sharedEmail = SharedEmail.builder()
+                .access(Access.RESTRICTED)
+                .dataId(dataId)
+                .sharedDataType(SharedDataType.THREAD)
+                .owner(owner)
+                .build();
+        sharedEmail.putInvitee(owner.getEmail(), Permission.OWNER);
+        return em.persist(sharedEmail);
+    }
+}
@@ -0,0 +1,30 @@
+package woozlabs.echo.domain.subscription.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.member.entity.Member;
+import woozlabs.echo.global.query.QueryCountTest;
+
+@Import({SubscriptionService.class, PaymentService.class})
+class SubscriptionServiceQueryCountTest extends QueryCountTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Test
+    @DisplayName("구독 활성화는 member 조회와 구독 저장만 실행합니다.")
+    void activateSubscription() {
+        // given
+        em.persist(Member.builder()
+                .displayName("primary")
+                .memberName("primary-1234")
+                .email("primary@example.com")
+                .primaryUid("uid-1")
+                .build());
+
+        // when, then: member, subscription insert
+        assertMaxQueries(2, () -> subscriptionService.activateSubscription("uid-1"));
+    }
+}
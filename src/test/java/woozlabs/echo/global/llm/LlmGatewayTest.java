@@ -0,0 +1,94 @@
+package woozlabs.echo.global.llm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmGatewayTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LlmGateway llmGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        llmGateway = new LlmGateway(meterRegistry, 1, 1, 100, 5000);
+    }
+
+    @Test
+    @DisplayName("같은 prompt 로 동시에 들어온 호출은 한 번만 provider 를 호출합니다.")
+    void coalesceIdenticalPrompts() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = executor.submit(() -> llmGateway.execute(LlmProvider.GEMINI, "prompt", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "summary";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> llmGateway.execute(LlmProvider.GEMINI, "prompt", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        Thread.sleep(50);
+        release.countDown();
+
+        // then
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("summary");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("summary");
+        assertThat(calls.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("permit 을 deadline 안에 얻지 못하면 LLM_PROVIDER_BUSY 예외가 발생합니다.")
+    void rejectWhenBulkheadIsFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> llmGateway.execute(LlmProvider.CHATGPT, "first", () -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> llmGateway.execute(LlmProvider.CHATGPT, "second", () -> "never"))
+                .isInstanceOf(CustomErrorException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LLM_PROVIDER_BUSY);
+        assertThat(meterRegistry.counter("echo.llm.rejected", "provider", "chatgpt").count()).isEqualTo(1.0);
+
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package woozlabs.echo.global.llm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseStreamRelayTest {
+
+    // 호출한 스레드에서 바로 실행
+    private final SseStreamRelay sseStreamRelay = new SseStreamRelay(Runnable::run, 1000);
+
+    @Test
+    @DisplayName("token 을 순서대로 보내고 done 이벤트 후 완료합니다.")
+    void relayTokensThenDone() throws Exception {
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            // when
+            sseStreamRelay.relay(ErrorCode.FAILED_TO_GEMINI_COMPLETION, onToken -> {
+                onToken.accept("Hello");
+                onToken.accept(" world");
+            });
+
+            // then
+            SseEmitter emitter = emitters.constructed().get(0);
+            assertThat(sentEvents(emitter)).containsExactly(
+                    event("token", "Hello"), event("token", " world"), event("done", ""));
+            verify(emitter).complete();
+            verify(emitter, never()).completeWithError(any());
+        }
+    }
+
+    @Test
+    @DisplayName("provider 호출이 실패하면 error 이벤트를 보내고 완료합니다.")
+    void relayErrorEvent() throws Exception {
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            // when
+            sseStreamRelay.relay(ErrorCode.FAILED_TO_GEMINI_COMPLETION, onToken -> {
+                onToken.accept("partial");
+                throw new CustomErrorException(ErrorCode.FAILED_TO_GEMINI_COMPLETION);
+            });
+
+            // then
+            SseEmitter emitter = emitters.constructed().get(0);
+            assertThat(sentEvents(emitter)).containsExactly(
+                    event("token", "partial"), event("error", ErrorCode.FAILED_TO_GEMINI_COMPLETION.getMessage()));
+            verify(emitter).complete();
+        }
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊기면 provider 스트림을 멈추고 done 이벤트를 보내지 않습니다.")
+    void stopOnClientDisconnect() throws Exception {
+        AtomicReference<Exception> producerFailure = new AtomicReference<>();
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class,
+                (mock, context) -> doNothing().doThrow(new IOException("Broken pipe"))
+                        .when(mock).send(any(SseEmitter.SseEventBuilder.class)))) {
+            // when
+            sseStreamRelay.relay(ErrorCode.FAILED_TO_GEMINI_COMPLETION, onToken -> {
+                onToken.accept("first");
+                try {
+                    onToken.accept("second");
+                    onToken.accept("third");
+                } catch (UncheckedIOException e) {
+                    producerFailure.set(e);
+                    throw e;
+                }
+            });
+
+            // then
+            SseEmitter emitter = emitters.constructed().get(0);
+            assertThat(producerFailure.get()).isInstanceOf(UncheckedIOException.class);
+            assertThat(sentEvents(emitter)).containsExactly(event("token", "first"), event("token", "second"));
+            verify(emitter).completeWithError(any(UncheckedIOException.class));
+            verify(emitter, never()).complete();
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 스레드가 가득 차면 LLM_PROVIDER_BUSY 로 거절합니다.")
+    void rejectWhenExecutorIsFull() {
+        SseStreamRelay busyRelay = new SseStreamRelay(task -> {
+            throw new TaskRejectedException("full");
+        }, 1000);
+
+        assertThatThrownBy(() -> busyRelay.relay(ErrorCode.FAILED_TO_GEMINI_COMPLETION, onToken -> {}))
+                .isInstanceOf(CustomErrorException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LLM_PROVIDER_BUSY);
+    }
+
+    private static List<String> sentEvents(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeast(0)).send(events.capture());
+        return events.getAllValues().stream().map(SseStreamRelayTest::render).toList();
+    }
+
+    private static String render(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(data -> data.getData().toString())
+                .collect(Collectors.joining());
+    }
+
+    private static String event(String name, String data) {
+        return render(SseEmitter.event().name(name).data(data));
+    }
+}
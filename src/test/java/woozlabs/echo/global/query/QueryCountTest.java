@@ -0,0 +1,53 @@
+package woozlabs.echo.global.query;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import woozlabs.echo.domain.member.entity.Account;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * service 호출 한 번에 실행되는 SQL statement 수의 상한을 검증하는 테스트의 base class.
+ * 각 테스트는 검증할 service 를 @Import 하고, JPA 외의 의존성은 @MockBean 으로 대체한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@Import(QueryCountConfig.class)
+public abstract class QueryCountTest {
+
+    @Autowired
+    protected TestEntityManager em;
+
+    // 준비한 데이터를 flush 하고 1차 캐시를 비운 뒤, call 과 그 변경사항 flush 까지의 statement 를 센다
+    protected List<String> executedQueries(Runnable call) {
+        em.flush();
+        em.clear();
+        QueryCounter.start();
+        List<String> queries;
+        try {
+            call.run();
+            em.flush();
+        } finally {
+            queries = QueryCounter.stop();
+        }
+        return queries;
+    }
+
+    protected void assertMaxQueries(int maxQueries, Runnable call) {
+        List<String> queries = executedQueries(call);
+        assertTrue(queries.size() <= maxQueries, () -> "Expected at most " + maxQueries + " statements but "
+                + queries.size() + " were executed:\n" + String.join("\n", queries));
+    }
+
+    protected Account persistAccount(String uid, String email) {
+        Account account = new Account();
+        account.setUid(uid);
+        account.setEmail(email);
+        account.setDisplayName(uid);
+        account.setProvider("google");
+        return em.persist(account);
+    }
+}
@@ -0,0 +1,43 @@
+package woozlabs.echo.global.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * start ~ stop 사이에 현재 thread 에서 실행된 SQL statement 를 기록한다.
+ * batch 실행은 parameter 묶음마다 한 statement 로 센다.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> queries = new ThreadLocal<>();
+
+    public static void start() {
+        queries.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> executed = queries.get();
+        queries.remove();
+        return executed == null ? List.of() : executed;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> executed = queries.get();
+        if (executed == null) return;
+        for (QueryInfo queryInfo : queryInfoList) {
+            int times = execInfo.isBatch() ? Math.max(1, queryInfo.getParametersList().size()) : 1;
+            for (int idx = 0; idx < times; idx++) {
+                executed.add(queryInfo.getQuery());
+            }
+        }
+    }
+}
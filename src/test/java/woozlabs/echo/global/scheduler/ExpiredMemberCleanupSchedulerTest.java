@@ -0,0 +1,75 @@
+package woozlabs.echo.global.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import woozlabs.echo.domain.auth.utils.FirebaseUtils;
+import woozlabs.echo.domain.member.repository.AccountRepository;
+import woozlabs.echo.domain.member.repository.MemberAccountRepository;
+import woozlabs.echo.domain.member.repository.MemberRepository;
+import woozlabs.echo.domain.member.service.AccountContextCache;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredMemberCleanupSchedulerTest {
+
+    @InjectMocks
+    private ExpiredMemberCleanupScheduler expiredMemberCleanupScheduler;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberAccountRepository memberAccountRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountContextCache accountContextCache;
+
+    @Mock
+    private FirebaseUtils firebaseUtils;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private GmailWatchRenewalScheduler gmailWatchRenewalScheduler;
+
+    @Test
+    @DisplayName("Firebase 삭제에 실패한 계정과 그 계정의 member 는 DB 에서 지우지 않습니다.")
+    void keepAccountsFailedToDeleteFromFirebase() throws Exception {
+        // given
+        doReturn(List.of(1L, 2L)).when(memberRepository).findExpiredMemberIds(any(), eq(0L), any());
+        doReturn(List.of()).when(memberRepository).findExpiredMemberIds(any(), eq(2L), any());
+        doReturn(List.of("uid-1", "uid-2")).when(accountRepository).findUidsAssociatedOnlyWithExpiredMembers(List.of(1L, 2L));
+        doReturn(List.of("uid-2")).when(firebaseUtils).deleteUsers(List.of("uid-1", "uid-2"));
+        doReturn(List.of(new Object[]{1L, "uid-1"}, new Object[]{2L, "uid-2"}))
+                .when(memberAccountRepository).findMemberIdAndAccountUidByMemberIds(List.of(1L, 2L));
+        doAnswer(invocation -> invocation.<TransactionCallback<int[]>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doReturn(1).when(memberAccountRepository).bulkDeleteByMemberIds(List.of(1L));
+        doReturn(1).when(memberRepository).bulkDeleteByIds(List.of(1L));
+        doReturn(1).when(accountRepository).bulkDeleteByUids(List.of("uid-1"));
+
+        // when
+        expiredMemberCleanupScheduler.hardDeleteExpiredMembers();
+
+        // then
+        verify(memberRepository).bulkDeleteByIds(List.of(1L));
+        verify(accountRepository).bulkDeleteByUids(List.of("uid-1"));
+        verify(memberRepository, times(2)).findExpiredMemberIds(any(), anyLong(), any());
+    }
+}
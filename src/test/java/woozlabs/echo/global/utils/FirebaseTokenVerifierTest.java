@@ -0,0 +1,113 @@
+package woozlabs.echo.global.utils;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FirebaseTokenVerifierTest {
+
+    private static final String ID_TOKEN = "id-token";
+    private static final long REVOCATION_CHECK_SECONDS = 300;
+    private static final long ISSUED_AT_SECONDS = 1_700_000_000L;
+    private static final long EXPIRES_AT_SECONDS = ISSUED_AT_SECONDS + 3600;
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toMillis(ISSUED_AT_SECONDS));
+    private FirebaseAuth firebaseAuth;
+    private FirebaseTokenVerifier firebaseTokenVerifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        firebaseAuth = mock(FirebaseAuth.class);
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        firebaseTokenVerifier = new FirebaseTokenVerifier(() -> firebaseAuth, clock, REVOCATION_CHECK_SECONDS);
+
+        FirebaseToken decodedToken = mock(FirebaseToken.class);
+        when(decodedToken.getUid()).thenReturn("uid-1");
+        when(decodedToken.getClaims()).thenReturn(Map.of("exp", EXPIRES_AT_SECONDS));
+        when(firebaseAuth.verifyIdToken(anyString())).thenReturn(decodedToken);
+        when(firebaseAuth.verifyIdToken(anyString(), anyBoolean())).thenReturn(decodedToken);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 token 은 다시 검증하지 않습니다.")
+    void returnCachedUid() throws Exception {
+        // when
+        String first = firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+        advanceSeconds(REVOCATION_CHECK_SECONDS - 1);
+        String second = firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+
+        // then
+        assertThat(first).isEqualTo("uid-1");
+        assertThat(second).isEqualTo("uid-1");
+        verify(firebaseAuth, times(1)).verifyIdToken(ID_TOKEN);
+        verify(firebaseAuth, never()).verifyIdToken(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("revocation-check-seconds 가 지나면 폐기 여부까지 다시 확인합니다.")
+    void checkRevokedPeriodically() throws Exception {
+        // given
+        firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+
+        // when
+        advanceSeconds(REVOCATION_CHECK_SECONDS);
+        firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+        advanceSeconds(1);
+        firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+
+        // then: 확인 시각이 갱신되어 바로 다음 요청은 캐시에서 처리
+        verify(firebaseAuth, times(1)).verifyIdToken(ID_TOKEN);
+        verify(firebaseAuth, times(1)).verifyIdToken(ID_TOKEN, true);
+    }
+
+    @Test
+    @DisplayName("token 의 exp 가 지나면 캐시를 쓰지 않고 다시 검증합니다.")
+    void expireAtTokenExp() throws Exception {
+        // given
+        firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+        FirebaseAuthException expired = mock(FirebaseAuthException.class);
+        when(firebaseAuth.verifyIdToken(ID_TOKEN)).thenThrow(expired);
+
+        // when
+        now.set(TimeUnit.SECONDS.toMillis(EXPIRES_AT_SECONDS));
+
+        // then
+        assertThatThrownBy(() -> firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN)).isSameAs(expired);
+        verify(firebaseAuth, times(2)).verifyIdToken(ID_TOKEN);
+        verify(firebaseAuth, never()).verifyIdToken(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("폐기 확인에 실패한 token 은 캐시에서 지워 다음 요청도 캐시를 쓰지 않습니다.")
+    void invalidateOnFailure() throws Exception {
+        // given
+        firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+        FirebaseAuthException revoked = mock(FirebaseAuthException.class);
+        when(firebaseAuth.verifyIdToken(ID_TOKEN, true)).thenThrow(revoked);
+        advanceSeconds(REVOCATION_CHECK_SECONDS);
+
+        // when, then
+        assertThatThrownBy(() -> firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN)).isSameAs(revoked);
+        firebaseTokenVerifier.verifyTokenAndGetUid(ID_TOKEN);
+        verify(firebaseAuth, times(2)).verifyIdToken(ID_TOKEN);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toMillis(seconds));
+    }
+}
@@ -0,0 +1,129 @@
+package woozlabs.echo.global.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import woozlabs.echo.global.exception.CustomErrorException;
+import woozlabs.echo.global.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GoogleOAuthUtilsTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private RestTemplate googleTokenInfoRestTemplate;
+    private ExecutorService executor;
+    private GoogleOAuthUtils googleOAuthUtils;
+
+    @BeforeEach
+    void setUp() {
+        googleTokenInfoRestTemplate = mock(RestTemplate.class);
+        executor = Executors.newFixedThreadPool(2);
+        googleOAuthUtils = new GoogleOAuthUtils();
+        ReflectionTestUtils.setField(googleOAuthUtils, "googleTokenInfoRestTemplate", googleTokenInfoRestTemplate);
+        ReflectionTestUtils.setField(googleOAuthUtils, "googleOAuthExecutor", executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 token 의 scope 를 조회하고, 조회한 scope 는 다시 tokeninfo 를 호출하지 않습니다.")
+    void lookupScopesAndCache() {
+        // given
+        stubScopes("token-1", "gmail calendar");
+        stubScopes("token-2", "gmail");
+
+        // when
+        Map<String, List<String>> scopes = googleOAuthUtils.getGrantedScopes(List.of("token-1", "token-2", "token-1"), TIMEOUT);
+        Map<String, List<String>> cached = googleOAuthUtils.getGrantedScopes(List.of("token-1", "token-2"), TIMEOUT);
+
+        // then
+        assertThat(scopes).containsEntry("token-1", List.of("gmail", "calendar")).containsEntry("token-2", List.of("gmail"));
+        assertThat(cached).isEqualTo(scopes);
+        verify(googleTokenInfoRestTemplate, times(1)).getForEntity(contains("access_token=token-1"), eq(Map.class));
+        verify(googleTokenInfoRestTemplate, times(1)).getForEntity(contains("access_token=token-2"), eq(Map.class));
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않은 token 은 null(알 수 없음)로 반환합니다.")
+    void returnNullOnTimeout() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        stubScopes("token-fast", "gmail");
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(Map.of("scope", "gmail"));
+        }).when(googleTokenInfoRestTemplate).getForEntity(contains("access_token=token-slow"), eq(Map.class));
+
+        // when
+        Map<String, List<String>> scopes;
+        try {
+            scopes = googleOAuthUtils.getGrantedScopes(List.of("token-fast", "token-slow"), TIMEOUT);
+        } finally {
+            release.countDown();
+        }
+
+        // then
+        assertThat(scopes).containsEntry("token-fast", List.of("gmail")).containsEntry("token-slow", null);
+    }
+
+    @Test
+    @DisplayName("executor 가 거절하면 요청 스레드에서 조회하지 않고 null 로 반환합니다.")
+    void returnNullWhenRejected() {
+        // given
+        ReflectionTestUtils.setField(googleOAuthUtils, "googleOAuthExecutor", (Executor) task -> {
+            throw new RejectedExecutionException("busy");
+        });
+
+        // when
+        Map<String, List<String>> scopes = googleOAuthUtils.getGrantedScopes(List.of("token-1"), TIMEOUT);
+
+        // then
+        assertThat(scopes).containsEntry("token-1", null);
+        verifyNoInteractions(googleTokenInfoRestTemplate);
+    }
+
+    @Test
+    @DisplayName("Google 이 거절한 token 이 있으면 FAILED_TO_FETCH_GOOGLE_SCOPES 를 던집니다.")
+    void rethrowTokenInfoFailure() {
+        // given
+        stubScopes("token-1", "gmail");
+        doThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+                .when(googleTokenInfoRestTemplate).getForEntity(contains("access_token=token-invalid"), eq(Map.class));
+
+        // when, then
+        assertThatThrownBy(() -> googleOAuthUtils.getGrantedScopes(List.of("token-1", "token-invalid"), TIMEOUT))
+                .isInstanceOf(CustomErrorException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.FAILED_TO_FETCH_GOOGLE_SCOPES);
+    }
+
+    private void stubScopes(String accessToken, String scope) {
+        doReturn(ResponseEntity.ok(Map.of("scope", scope)))
+                .when(googleTokenInfoRestTemplate).getForEntity(contains("access_token=" + accessToken), eq(Map.class));
+    }
+}